@@ -0,0 +1,37 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Creates the annotation instances with the attributes only known at runtime, for initializing the validators
+ * directly.
+ */
+final class Annotations {
+
+    private Annotations() {
+    }
+
+    /**
+     * Creates the annotation.
+     *
+     * @param type       The annotation type.
+     * @param attributes The attributes, the absent ones fall back to their default values.
+     * @param <A>        The annotation type.
+     * @return The annotation instance.
+     */
+    static <A extends Annotation> A create(Class<A> type, Map<String, Object> attributes) {
+        var proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            var name = method.getName();
+            return switch (name) {
+                case "annotationType" -> type;
+                case "toString" -> "@" + type.getName() + attributes;
+                case "hashCode" -> System.identityHashCode(p);
+                case "equals" -> p == args[0];
+                default -> attributes.containsKey(name) ? attributes.get(name) : method.getDefaultValue();
+            };
+        });
+        return type.cast(proxy);
+    }
+}
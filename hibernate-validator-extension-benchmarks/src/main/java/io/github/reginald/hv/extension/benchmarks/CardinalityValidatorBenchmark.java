@@ -0,0 +1,61 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.Cardinality;
+import io.github.reginald.hv.extension.validators.CardinalityValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link Cardinality} of 2 to 3 valid fields over the growing count of optional fields, comparing the values
+ * decided after the first few fields with the values decided only after checking all the fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CardinalityValidatorBenchmark {
+
+    @Param({"8", "40"})
+    public int fieldCount;
+
+    /**
+     * {@code early} fills the first 4 fields, exceeding the maximum after 4 reads, while {@code all} fills the last 2
+     * fields, reaching the minimum only at the end.
+     */
+    @Param({"early", "all"})
+    public String decided;
+
+    private CardinalityValidator cardinalityValidator;
+
+    private CrossingFieldsValidatorBenchmark.Wide wide;
+
+    private boolean expected;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        var fields = IntStream.range(0, fieldCount).mapToObj(i -> "f" + i).toArray(String[]::new);
+        cardinalityValidator = new CardinalityValidator();
+        cardinalityValidator.initialize(Annotations.create(Cardinality.class, Map.of("fields", fields, "min", 2, "max", 3)));
+
+        wide = new CrossingFieldsValidatorBenchmark.Wide();
+        var early = "early".equals(decided);
+        for (var i = 0; i < fieldCount; i++) {
+            var present = early ? i < 4 : i >= fieldCount - 2;
+            CrossingFieldsValidatorBenchmark.Wide.class.getField("f" + i).set(wide, present ? "v" : null);
+        }
+        expected = !early;
+        if (cardinalityValidator.isValid(wide, null) != expected) {
+            throw new IllegalStateException("Benchmark data of " + decided + " should be " + (expected ? "valid." : "invalid."));
+        }
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return cardinalityValidator.isValid(wide, null);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.Compare;
+import io.github.reginald.hv.extension.validators.CompareValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Compare} over the boxed primitives and the temporal types, both through the Hibernate Validator and
+ * by calling the {@link CompareValidator} directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompareValidatorBenchmark {
+
+    @Compare(left = "min", operator = Compare.Operator.LE, right = "max")
+    public record IntRange(int min, int max) {
+    }
+
+    @Compare(left = "start", operator = Compare.Operator.LT, right = "end")
+    public record Period(LocalDate start, LocalDate end) {
+    }
+
+    @Compare(left = "shippedAt", operator = Compare.Operator.GE, right = "orderedAt")
+    public record Shipment(Instant orderedAt, Instant shippedAt) {
+    }
+
+    @Param({"int", "LocalDate", "Instant"})
+    public String valueType;
+
+    private Validator validator;
+
+    private CompareValidator compareValidator;
+
+    private Object pojo;
+
+    @Setup
+    public void setup() {
+        var now = Instant.parse("2024-01-01T00:00:00Z");
+        Compare constraint;
+        switch (valueType) {
+            case "int" -> {
+                pojo = new IntRange(1, 2);
+                constraint = IntRange.class.getAnnotation(Compare.class);
+            }
+            case "LocalDate" -> {
+                pojo = new Period(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+                constraint = Period.class.getAnnotation(Compare.class);
+            }
+            case "Instant" -> {
+                pojo = new Shipment(now, now.plusSeconds(60));
+                constraint = Shipment.class.getAnnotation(Compare.class);
+            }
+            default -> throw new IllegalArgumentException(valueType);
+        }
+        compareValidator = new CompareValidator();
+        compareValidator.initialize(Annotations.create(Compare.class, Map.of("left", constraint.left(),
+                "operator", constraint.operator(), "right", constraint.right())));
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        if (!compareValidator.isValid(pojo, null) || !validator.validate(pojo).isEmpty()) {
+            throw new IllegalStateException("Benchmark data of " + valueType + " should be valid.");
+        }
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return compareValidator.isValid(pojo, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> hibernateValidator() {
+        return validator.validate(pojo);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.*;
+import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.cfg.GenericConstraintDef;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the crossing-field validators with the growing count of fields, both through the Hibernate Validator and by
+ * calling the {@link jakarta.validation.ConstraintValidator} directly.
+ * <br>
+ * The values are arranged so that every constraint is satisfied only after checking all the fields, which is the worst
+ * case of the short-circuiting evaluation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrossingFieldsValidatorBenchmark {
+
+    public static class Wide {
+
+        public String f0, f1, f2, f3, f4, f5, f6, f7, f8, f9,
+                f10, f11, f12, f13, f14, f15, f16, f17, f18, f19,
+                f20, f21, f22, f23, f24, f25, f26, f27, f28, f29,
+                f30, f31, f32, f33, f34, f35, f36, f37, f38, f39,
+                f40, f41, f42, f43, f44, f45, f46, f47, f48, f49,
+                f50, f51, f52, f53, f54, f55, f56, f57, f58, f59,
+                f60, f61, f62, f63;
+    }
+
+    @Param({"Or", "And", "Nand", "Xor", "Oxor"})
+    public String constraint;
+
+    @Param({"2", "8", "64"})
+    public int fieldCount;
+
+    private Validator validator;
+
+    private CrossingFieldsValidator<?> constraintValidator;
+
+    private Wide wide;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        var fields = IntStream.range(0, fieldCount).mapToObj(i -> "f" + i).toArray(String[]::new);
+        var type = switch (constraint) {
+            case "Or" -> Or.class;
+            case "And" -> And.class;
+            case "Nand" -> Nand.class;
+            case "Xor" -> Xor.class;
+            case "Oxor" -> Oxor.class;
+            default -> throw new IllegalArgumentException(constraint);
+        };
+        constraintValidator = initialize(type, fields);
+
+        var configuration = Validation.byProvider(HibernateValidator.class).configure();
+        var mapping = configuration.createConstraintMapping();
+        mapping.type(Wide.class).constraint(new GenericConstraintDef<>(type).param("fields", fields));
+        validator = configuration.addMapping(mapping).buildValidatorFactory().getValidator();
+
+        wide = new Wide();
+        for (var i = 0; i < fieldCount; i++) {
+            var last = i == fieldCount - 1;
+            var present = switch (constraint) {
+                case "Or", "Xor" -> last;
+                case "And" -> true;
+                case "Nand" -> !last;
+                default -> false;
+            };
+            Wide.class.getField("f" + i).set(wide, present ? "v" : null);
+        }
+        if (!constraintValidator.isValid(wide, null) || !validator.validate(wide).isEmpty()) {
+            throw new IllegalStateException("Benchmark data of @" + constraint + " should be valid.");
+        }
+    }
+
+    private static <A extends Annotation> CrossingFieldsValidator<?> initialize(Class<A> type, String[] fields) {
+        CrossingFieldsValidator<A> validator = switch (type.getSimpleName()) {
+            case "Or" -> cast(new OrValidator());
+            case "And" -> cast(new AndValidator());
+            case "Nand" -> cast(new NandValidator());
+            case "Xor" -> cast(new XorValidator());
+            default -> cast(new OxorValidator());
+        };
+        validator.initialize(Annotations.create(type, Map.of("fields", fields)));
+        return validator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A extends Annotation> CrossingFieldsValidator<A> cast(CrossingFieldsValidator<?> validator) {
+        return (CrossingFieldsValidator<A>) validator;
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return constraintValidator.isValid(wide, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Wide>> hibernateValidator() {
+        return validator.validate(wide);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.*;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.cfg.GenericConstraintDef;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the enum-like validators with the growing size of the valid constants, both through the Hibernate Validator
+ * and by calling the {@link ConstraintValidator} directly.
+ * <br>
+ * The constants are sparse so that the large sets are not backed by the bitmap. The hitting value is the last constant,
+ * which is the worst case of the linear scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumValueValidatorBenchmark {
+
+    public record IntHolder(Integer value) {
+    }
+
+    public record LongHolder(Long value) {
+    }
+
+    public record StringHolder(String value) {
+    }
+
+    @Param({"int", "long", "string"})
+    public String type;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int size;
+
+    private Validator validator;
+
+    private ConstraintValidator<?, Object> constraintValidator;
+
+    private Object hit;
+
+    private Object miss;
+
+    private Object hitHolder;
+
+    @Setup
+    public void setup() {
+        var configuration = Validation.byProvider(HibernateValidator.class).configure();
+        var mapping = configuration.createConstraintMapping();
+        switch (type) {
+            case "int" -> {
+                var values = IntStream.range(0, size).map(i -> i * 1_000_003).toArray();
+                constraintValidator = initialize(new IntEnumValueValidator(), IntEnumValue.class, values);
+                mapping.type(IntHolder.class).field("value").constraint(new GenericConstraintDef<>(IntEnumValue.class).param("value", values));
+                hit = values[size - 1];
+                miss = -1;
+                hitHolder = new IntHolder((Integer) hit);
+            }
+            case "long" -> {
+                var values = IntStream.range(0, size).mapToLong(i -> i * 1_000_000_007L).toArray();
+                constraintValidator = initialize(new LongEnumValueValidator(), LongEnumValue.class, values);
+                mapping.type(LongHolder.class).field("value").constraint(new GenericConstraintDef<>(LongEnumValue.class).param("value", values));
+                hit = values[size - 1];
+                miss = -1L;
+                hitHolder = new LongHolder((Long) hit);
+            }
+            case "string" -> {
+                var values = IntStream.range(0, size).mapToObj(i -> "CODE_" + i).toArray(String[]::new);
+                constraintValidator = initialize(new StringEnumValueValidator(), StringEnumValue.class, values);
+                mapping.type(StringHolder.class).field("value").constraint(new GenericConstraintDef<>(StringEnumValue.class).param("value", values));
+                // Not the interned constant, like the value deserialized from the request.
+                hit = new String(values[size - 1].toCharArray());
+                miss = "CODE_-1";
+                hitHolder = new StringHolder((String) hit);
+            }
+            default -> throw new IllegalArgumentException(type);
+        }
+        validator = configuration.addMapping(mapping).buildValidatorFactory().getValidator();
+        if (!constraintValidator.isValid(hit, null) || constraintValidator.isValid(miss, null) || !validator.validate(hitHolder).isEmpty()) {
+            throw new IllegalStateException("Benchmark data of " + type + " not expected.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A extends Annotation> ConstraintValidator<?, Object> initialize(ConstraintValidator<A, ?> validator, Class<A> type, Object values) {
+        validator.initialize(Annotations.create(type, Map.of("value", values)));
+        return (ConstraintValidator<?, Object>) validator;
+    }
+
+    @Benchmark
+    public boolean directHit() {
+        return constraintValidator.isValid(hit, null);
+    }
+
+    @Benchmark
+    public boolean directMiss() {
+        return constraintValidator.isValid(miss, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> hibernateValidator() {
+        return validator.validate(hitHolder);
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldPath;
+import io.github.reginald.hv.extension.validators.MethodHandleFieldAccessor;
+import io.github.reginald.hv.extension.validators.PojoFieldAccessor;
+import io.github.reginald.hv.extension.validators.RecordFieldAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective reading of {@link PojoFieldAccessor} with the method handle based reading of
+ * {@link MethodHandleFieldAccessor} and the record component reading of {@link RecordFieldAccessor}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAccessorBenchmark {
+
+    public record Pojo(String a, int n, Nested inner, Map<String, Object> attributes) {
+
+        public record Nested(String b) {
+        }
+    }
+
+    public static class Bean {
+
+        public String publicField = "p";
+
+        private String name = "name";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final FieldPath A = FieldPath.compile("a");
+
+    private static final FieldPath N = FieldPath.compile("n");
+
+    private static final FieldPath INNER_B = FieldPath.compile("inner.b");
+
+    private static final FieldPath NAME = FieldPath.compile("name");
+
+    private static final FieldPath PUBLIC_FIELD = FieldPath.compile("publicField");
+
+    private static final FieldPath KEY = FieldPath.compile("key");
+
+    private static final FieldPath ATTRIBUTES_KEY = FieldPath.compile("attributes.key");
+
+    private static final FieldPath MISSING = FieldPath.compile("missing");
+
+    @Param({"reflection", "methodHandle", "record"})
+    public String accessorType;
+
+    private FieldAccessor accessor;
+
+    private Pojo pojo;
+
+    private Bean bean;
+
+    private Map<String, Object> map;
+
+    @Setup
+    public void setup() {
+        accessor = switch (accessorType) {
+            case "reflection" -> new PojoFieldAccessor();
+            case "methodHandle" -> new MethodHandleFieldAccessor();
+            case "record" -> new RecordFieldAccessor();
+            default -> throw new IllegalArgumentException(accessorType);
+        };
+        map = new HashMap<>(Map.of("key", "value", "other", "other"));
+        pojo = new Pojo("a", 42, new Pojo.Nested("b"), map);
+        bean = new Bean();
+    }
+
+    @Benchmark
+    public Object recordComponent() throws FieldAccessor.AccessFieldException {
+        return accessor.access(pojo, A);
+    }
+
+    @Benchmark
+    public Object primitiveRecordComponent() throws FieldAccessor.AccessFieldException {
+        return accessor.access(pojo, N);
+    }
+
+    @Benchmark
+    public Object nestedRecordComponent() throws FieldAccessor.AccessFieldException {
+        return accessor.access(pojo, INNER_B);
+    }
+
+    @Benchmark
+    public Object beanGetter() throws FieldAccessor.AccessFieldException {
+        return accessor.access(bean, NAME);
+    }
+
+    @Benchmark
+    public Object beanPublicField() throws FieldAccessor.AccessFieldException {
+        return accessor.access(bean, PUBLIC_FIELD);
+    }
+
+    @Benchmark
+    public Object mapEntry() throws FieldAccessor.AccessFieldException {
+        return accessor.access(map, KEY);
+    }
+
+    @Benchmark
+    public Object nestedMapEntry() throws FieldAccessor.AccessFieldException {
+        return accessor.access(pojo, ATTRIBUTES_KEY);
+    }
+
+    @Benchmark
+    public Object missingFieldThrown() {
+        try {
+            return accessor.accessValue(bean, MISSING);
+        } catch (FieldAccessor.AccessFieldException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object missingFieldReturned() {
+        return accessor.accessValueOrFailure(bean, MISSING);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the separate evaluation of the crossing-field constraints by {@link BatchValidator} with the
+ * {@link BatchValidator#fused() fused} evaluation, on the classes declaring 5 and 10 constraints over the overlapping
+ * fields. The score is per object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FusedBatchValidatorBenchmark {
+
+    private static final int BATCH_SIZE = 1024;
+
+    public static class Base {
+
+        public String f0 = "0", f1 = "1", f2 = "2", f3 = "3", f4, f5 = "5", f6, f7 = "7";
+    }
+
+    @And(fields = {"f0", "f1", "f2"})
+    @Or(fields = {"f4", "f6", "f1"})
+    @Nand(fields = {"f1", "f2", "f4"})
+    @Xor(fields = {"f4", "f6", "f3"})
+    @Oxor(fields = {"f6", "f4", "f2"})
+    public static class Five extends Base {
+    }
+
+    @And(fields = {"f0", "f1", "f2"})
+    @Or(fields = {"f4", "f6", "f1"})
+    @Nand(fields = {"f1", "f2", "f4"})
+    @Xor(fields = {"f4", "f6", "f3"})
+    @Oxor(fields = {"f6", "f4", "f2"})
+    @And(fields = {"f5", "f7", "f0"})
+    @Or(fields = {"f6", "f4", "f5"})
+    @Nand(fields = {"f3", "f6"})
+    @Xor(fields = {"f6", "f7"})
+    @Oxor(fields = {"f4", "f6", "f7"})
+    public static class Ten extends Base {
+    }
+
+    @Param({"5", "10"})
+    public int constraintCount;
+
+    private BatchValidator<Object> unfused;
+
+    private BatchValidator<Object> fused;
+
+    private Object[] objects;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        var type = (Class<Object>) (Class<?>) (constraintCount == 5 ? Five.class : Ten.class);
+        unfused = BatchValidator.of(type);
+        fused = unfused.fused();
+        objects = new Object[BATCH_SIZE];
+        for (var i = 0; i < BATCH_SIZE; i++) {
+            objects[i] = constraintCount == 5 ? new Five() : new Ten();
+        }
+        if (unfused.validate(objects).invalidCount() != 0 || fused.validate(objects).invalidCount() != 0) {
+            throw new IllegalStateException("All the objects should be valid.");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchValidator.Result separate() {
+        return unfused.validate(objects);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchValidator.Result fused() {
+        return fused.validate(objects);
+    }
+}
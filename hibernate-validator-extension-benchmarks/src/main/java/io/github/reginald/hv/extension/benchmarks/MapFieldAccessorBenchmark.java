@@ -0,0 +1,76 @@
+package io.github.reginald.hv.extension.benchmarks;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldPath;
+import io.github.reginald.hv.extension.validators.MapFieldAccessor;
+import io.github.reginald.hv.extension.validators.PojoFieldAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dedicated {@link MapFieldAccessor} with the mixed path of {@link PojoFieldAccessor} on the schemaless
+ * payload, i.e. the tree of nested {@link Map}s and lists like the deserialized JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapFieldAccessorBenchmark {
+
+    private static final FieldPath ID = FieldPath.compile("id");
+
+    private static final FieldPath ORDER_STATUS = FieldPath.compile("order.status");
+
+    private static final FieldPath ORDER_ITEM_SKU = FieldPath.compile("order.items[3].sku");
+
+    @Param({"pojo", "map"})
+    public String accessorType;
+
+    private FieldAccessor accessor;
+
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setup() {
+        accessor = switch (accessorType) {
+            case "pojo" -> new PojoFieldAccessor();
+            case "map" -> new MapFieldAccessor();
+            default -> throw new IllegalArgumentException(accessorType);
+        };
+        var items = new ArrayList<Object>();
+        for (var i = 0; i < 5; i++) {
+            var item = new LinkedHashMap<String, Object>();
+            item.put("sku", "SKU-" + i);
+            item.put("quantity", i);
+            items.add(item);
+        }
+        var order = new LinkedHashMap<String, Object>();
+        order.put("status", "PAID");
+        order.put("items", items);
+        payload = new HashMap<>();
+        payload.put("id", 42);
+        payload.put("order", order);
+    }
+
+    @Benchmark
+    public Object flat() throws FieldAccessor.AccessFieldException {
+        return accessor.accessValue(payload, ID);
+    }
+
+    @Benchmark
+    public Object nested() throws FieldAccessor.AccessFieldException {
+        return accessor.accessValue(payload, ORDER_STATUS);
+    }
+
+    @Benchmark
+    public Object indexed() throws FieldAccessor.AccessFieldException {
+        return accessor.accessValue(payload, ORDER_ITEM_SKU);
+    }
+}
@@ -0,0 +1,589 @@
+package io.github.reginald.hv.extension.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Annotation processor generating the reflection-free {@code FieldAccessor} for each type annotated with
+ * {@code @Or}, {@code @And}, {@code @Nand}, {@code @Xor}, {@code @Oxor}, {@code @Cardinality} or {@code @Compare}.
+ * <br>
+ * The generated accessor of class {@code com.example.Outer.Pojo} is named {@code com.example.Outer_Pojo_FieldAccessor},
+ * and reads each declared field path, including the nested ones like {@code inner.b}, with a {@code switch} over the
+ * paths. The fields are resolved the same way as {@code PojoFieldAccessor}, i.e. the record components, the public
+ * fields and the public getters. The paths couldn't be resolved at compile time, e.g. the nested keys of a map, are
+ * delegated to {@code PojoFieldAccessor} at runtime.
+ * <br>
+ * The types which are NOT accessible from their own package, e.g. the private nested classes, are skipped.
+ * <br>
+ * The GraalVM native image metadata is generated as well, i.e. {@code META-INF/native-image/<dir>/reflect-config.json}
+ * in the class output, registering the fields, getters and record components read by each declared path of every
+ * annotated type, including the skipped ones, and the constructors of the generated accessors and the accessors and
+ * verifiers declared by the constraints. The {@code <dir>} defaults to {@value #DEFAULT_NATIVE_IMAGE_DIR}, and could
+ * be specified by the processor option {@code -A}{@value #NATIVE_IMAGE_DIR_OPTION}{@code =<dir>}.
+ */
+@SupportedAnnotationTypes({
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Or",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Or.List",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".And",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".And.List",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Nand",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Nand.List",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Xor",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Xor.List",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Oxor",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Oxor.List",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Cardinality",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Cardinality.List",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Compare",
+        FieldAccessorProcessor.VALIDATORS_PACKAGE + ".Compare.List",
+})
+@SupportedOptions(FieldAccessorProcessor.NATIVE_IMAGE_DIR_OPTION)
+public class FieldAccessorProcessor extends AbstractProcessor {
+
+    static final String VALIDATORS_PACKAGE = "io.github.reginald.hv.extension.validators";
+
+    /**
+     * Suffix of the generated accessor's class name. Keep consistent with {@code GeneratedFieldAccessors}.
+     */
+    static final String SUFFIX = "_FieldAccessor";
+
+    private static final Set<String> CONSTRAINTS = Set.of(
+            VALIDATORS_PACKAGE + ".Or",
+            VALIDATORS_PACKAGE + ".And",
+            VALIDATORS_PACKAGE + ".Nand",
+            VALIDATORS_PACKAGE + ".Xor",
+            VALIDATORS_PACKAGE + ".Oxor",
+            VALIDATORS_PACKAGE + ".Cardinality",
+            VALIDATORS_PACKAGE + ".Compare"
+    );
+
+    static final String NATIVE_IMAGE_DIR_OPTION = "hv.extension.nativeImageDir";
+
+    static final String DEFAULT_NATIVE_IMAGE_DIR = "io.github.reginald-yoeng-lee/generated";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private final ReflectionConfig reflectionConfig = new ReflectionConfig();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var annotatedTypes = new LinkedHashSet<TypeElement>();
+        for (var annotation : annotations) {
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    annotatedTypes.add(type);
+                }
+            }
+        }
+        for (var type : annotatedTypes) {
+            registerReflection(type);
+            var packageElement = processingEnv.getElementUtils().getPackageOf(type);
+            if (!isAccessible(type, packageElement)) {
+                continue;
+            }
+            var accessorName = accessorName(type, packageElement);
+            if (!generated.add(accessorName)) {
+                continue;
+            }
+            try {
+                write(type, packageElement, accessorName);
+                reflectionConfig.constructor(packageElement.isUnnamed() ? accessorName : packageElement.getQualifiedName() + "." + accessorName);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Generate field accessor " + accessorName + " failed: " + e.getMessage(), type);
+            }
+        }
+        if (roundEnv.processingOver() && !reflectionConfig.isEmpty()) {
+            writeReflectionConfig();
+        }
+        return false;
+    }
+
+    /**
+     * Collects the field paths declared by all the supported constraints annotated on the type.
+     *
+     * @param type The annotated type.
+     * @return The field paths in declaration order, without duplication.
+     */
+    static Set<String> collectPaths(TypeElement type) {
+        var paths = new LinkedHashSet<String>();
+        for (var constraint : collectConstraints(type)) {
+            paths.addAll(constraintPaths(constraint));
+        }
+        return paths;
+    }
+
+    /**
+     * @return The field paths declared by the constraint, i.e. the {@code fields}, or the {@code left} and
+     * {@code right} of {@code @Compare}.
+     */
+    private static List<String> constraintPaths(AnnotationMirror constraint) {
+        var paths = new ArrayList<String>();
+        for (var value : annotationValues(constraint, "fields")) {
+            paths.add((String) value.getValue());
+        }
+        for (var side : List.of("left", "right")) {
+            var value = annotationValue(constraint, side);
+            if (value != null) {
+                paths.add((String) value.getValue());
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Collects all the supported constraints annotated on the type, unwrapping the repeated ones.
+     *
+     * @param type The annotated type.
+     * @return The constraints in declaration order.
+     */
+    static List<AnnotationMirror> collectConstraints(TypeElement type) {
+        var constraints = new ArrayList<AnnotationMirror>();
+        for (var mirror : type.getAnnotationMirrors()) {
+            var name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (CONSTRAINTS.contains(name)) {
+                constraints.add(mirror);
+            } else if (name.endsWith(".List") && CONSTRAINTS.contains(name.substring(0, name.length() - ".List".length()))) {
+                for (var value : annotationValues(mirror, "value")) {
+                    constraints.add((AnnotationMirror) value.getValue());
+                }
+            }
+        }
+        return constraints;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> annotationValues(AnnotationMirror mirror, String name) {
+        var value = annotationValue(mirror, name);
+        return value == null ? List.of() : (List<? extends AnnotationValue>) value.getValue();
+    }
+
+    private static AnnotationValue annotationValue(AnnotationMirror mirror, String name) {
+        for (var entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers the reflective access of the type to the native image metadata, i.e. the members read by each declared
+     * path, and the constructors of the accessors and verifiers declared by the constraints.
+     *
+     * @param type The annotated type.
+     */
+    private void registerReflection(TypeElement type) {
+        var elements = processingEnv.getElementUtils();
+        for (var constraint : collectConstraints(type)) {
+            for (var component : List.of("accessor", "fieldVerifier")) {
+                var value = annotationValue(constraint, component);
+                if (value != null && value.getValue() instanceof DeclaredType declared) {
+                    reflectionConfig.constructor(elements.getBinaryName((TypeElement) declared.asElement()).toString());
+                }
+            }
+            for (var path : constraintPaths(constraint)) {
+                registerPath(type, path);
+            }
+        }
+    }
+
+    /**
+     * Registers the members read by the path, segment by segment through the declared types. The rest of the path is
+     * skipped once its type couldn't be resolved statically, e.g. the values of a map.
+     */
+    private void registerPath(TypeElement type, String path) {
+        TypeMirror current = type.asType();
+        for (var part : path.split("\\.", -1)) {
+            var bracket = part.indexOf('[');
+            var name = bracket < 0 ? part : part.substring(0, bracket);
+            if (!name.isEmpty()) {
+                current = registerField(current, name);
+            }
+            for (var i = bracket; i >= 0 && current != null; i = part.indexOf('[', i + 1)) {
+                current = elementType(current);
+            }
+            if (current == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Registers the member read by the field of the receiver, the same way as {@code PojoFieldAccessor} resolves it.
+     *
+     * @return The type of the field, or {@code null} if couldn't be resolved statically.
+     */
+    private TypeMirror registerField(TypeMirror receiverType, String field) {
+        var types = processingEnv.getTypeUtils();
+        var elements = processingEnv.getElementUtils();
+        if (receiverType.getKind() == TypeKind.TYPEVAR) {
+            receiverType = types.erasure(receiverType);
+        }
+        if (receiverType.getKind() != TypeKind.DECLARED
+                || types.isAssignable(types.erasure(receiverType), types.erasure(elements.getTypeElement("java.util.Map").asType()))) {
+            return null;
+        }
+        var declaredType = (DeclaredType) receiverType;
+        var typeElement = (TypeElement) declaredType.asElement();
+        if (typeElement.getKind() == ElementKind.RECORD) {
+            for (var component : typeElement.getRecordComponents()) {
+                if (component.getSimpleName().contentEquals(field)) {
+                    var binaryName = elements.getBinaryName(typeElement).toString();
+                    reflectionConfig.record(binaryName);
+                    reflectionConfig.method(binaryName, component.getAccessor().getSimpleName().toString());
+                    return ((ExecutableType) types.asMemberOf(declaredType, component.getAccessor())).getReturnType();
+                }
+            }
+        }
+
+        var variable = findField(typeElement, field);
+        if (variable == null) {
+            return null;
+        }
+        reflectionConfig.field(elements.getBinaryName((TypeElement) variable.getEnclosingElement()).toString(), field);
+        if (variable.getModifiers().contains(Modifier.PUBLIC)) {
+            return types.asMemberOf(declaredType, variable);
+        }
+        var getter = findGetter(typeElement, variable);
+        if (getter == null) {
+            return null;
+        }
+        // Looked up on the receiver, which may also declare the public bridge of the getter inherited from a non-public class.
+        reflectionConfig.method(elements.getBinaryName(typeElement).toString(), getter.getSimpleName().toString());
+        reflectionConfig.method(elements.getBinaryName((TypeElement) getter.getEnclosingElement()).toString(), getter.getSimpleName().toString());
+        return ((ExecutableType) types.asMemberOf(declaredType, getter)).getReturnType();
+    }
+
+    /**
+     * @return The type of the elements of the list or array, or {@code null} if couldn't be resolved statically.
+     */
+    private TypeMirror elementType(TypeMirror type) {
+        var types = processingEnv.getTypeUtils();
+        if (type.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) type).getComponentType();
+        }
+        var listType = types.erasure(processingEnv.getElementUtils().getTypeElement("java.util.List").asType());
+        if (type.getKind() != TypeKind.DECLARED || !types.isAssignable(types.erasure(type), listType)) {
+            return null;
+        }
+        var arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.size() != 1) {
+            return null;
+        }
+        var element = arguments.get(0);
+        if (element instanceof WildcardType wildcard) {
+            return wildcard.getExtendsBound();
+        }
+        return element;
+    }
+
+    private void writeReflectionConfig() {
+        var dir = processingEnv.getOptions().getOrDefault(NATIVE_IMAGE_DIR_OPTION, DEFAULT_NATIVE_IMAGE_DIR);
+        var name = "META-INF/native-image/" + dir + "/reflect-config.json";
+        try (var writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name).openWriter()) {
+            writer.write(reflectionConfig.toJson());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Generate native image metadata " + name + " failed: " + e.getMessage());
+        }
+    }
+
+    private String accessorName(TypeElement type, PackageElement packageElement) {
+        var binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        var flatName = packageElement.isUnnamed() ? binaryName : binaryName.substring(packageElement.getQualifiedName().length() + 1);
+        return flatName.replace('$', '_') + SUFFIX;
+    }
+
+    private void write(TypeElement type, PackageElement packageElement, String accessorName) throws IOException {
+        var qualifiedName = packageElement.isUnnamed() ? accessorName : packageElement.getQualifiedName() + "." + accessorName;
+        var source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+        source.append("import ").append(VALIDATORS_PACKAGE).append(".FieldAccessor;\n");
+        source.append("import ").append(VALIDATORS_PACKAGE).append(".FieldPath;\n");
+        source.append("import ").append(VALIDATORS_PACKAGE).append(".PojoFieldAccessor;\n\n");
+        source.append("import java.lang.reflect.InvocationTargetException;\n\n");
+        source.append("/**\n");
+        source.append(" * Field accessor of {@link ").append(type.getQualifiedName()).append("}.\n");
+        source.append(" * <br>\n");
+        source.append(" * Generated by {@code ").append(getClass().getName()).append("}. Do NOT edit.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(accessorName).append(" implements FieldAccessor {\n\n");
+        var cases = new StringBuilder();
+        var fallbackPaths = new ArrayList<String>();
+        for (var path : collectPaths(type)) {
+            var body = generateCase(type, packageElement, path, fallbackPaths);
+            if (body == null) {
+                continue;
+            }
+            cases.append("                case ").append(literal(path)).append(": {\n");
+            cases.append(body);
+            cases.append("                }\n");
+        }
+        for (var i = 0; i < fallbackPaths.size(); i++) {
+            source.append("    private static final FieldPath PATH_").append(i).append(" = FieldPath.compile(")
+                    .append(literal(fallbackPaths.get(i))).append(");\n\n");
+        }
+        source.append("    private final FieldAccessor fallback = new PojoFieldAccessor();\n\n");
+        source.append("    @Override\n");
+        source.append("    public FieldTuple access(Object bean, String field) throws AccessFieldException {\n");
+        source.append("        return access(bean, FieldPath.compile(field));\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public FieldTuple access(Object bean, FieldPath path) throws AccessFieldException {\n");
+        source.append("        return new FieldTuple(path.path(), accessValue(bean, path));\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public Object accessValue(Object bean, FieldPath path) throws AccessFieldException {\n");
+        source.append("        var value = accessValueOrFailure(bean, path);\n");
+        source.append("        if (value instanceof AccessFailure failure) {\n");
+        source.append("            throw failure.toException(path);\n");
+        source.append("        }\n");
+        source.append("        return value;\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    @SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        source.append("    public Object accessValueOrFailure(Object bean, FieldPath path) {\n");
+        source.append("        var pojo = (").append(type.getQualifiedName()).append(") bean;\n");
+        source.append("        try {\n");
+        source.append("            switch (path.path()) {\n");
+        source.append(cases);
+        source.append("                default:\n");
+        source.append("                    break;\n");
+        source.append("            }\n");
+        source.append("        } catch (RuntimeException e) {\n");
+        source.append("            return new AccessFailure(new InvocationTargetException(e));\n");
+        source.append("        }\n");
+        source.append("        return fallback.accessValueOrFailure(bean, path);\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        try (var writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Generates the statements reading the value of the field path.
+     *
+     * @param fallbackPaths The remaining paths read by the fallback accessor at runtime, which are compiled into the
+     *                      constants {@code PATH_<index>}.
+     * @return The statements, or {@code null} if the root field couldn't be resolved at compile time, which means
+     * the path is left to the fallback accessor.
+     */
+    private String generateCase(TypeElement type, PackageElement packageElement, String path, List<String> fallbackPaths) {
+        var segments = path.split("\\.", -1);
+        if (Arrays.stream(segments).anyMatch(String::isEmpty)) {
+            return null;
+        }
+        var body = new StringBuilder();
+        var indent = "                    ";
+        var receiver = "pojo";
+        var receiverType = processingEnv.getTypeUtils().erasure(type.asType());
+        for (var i = 0; i < segments.length; i++) {
+            var access = resolve(receiverType, segments[i], packageElement);
+            if (access == null) {
+                if (i == 0) {
+                    return null;
+                }
+                var remainder = String.join(".", Arrays.asList(segments).subList(i, segments.length));
+                var constant = fallbackPaths.indexOf(remainder);
+                if (constant < 0) {
+                    constant = fallbackPaths.size();
+                    fallbackPaths.add(remainder);
+                }
+                body.append(indent).append("return fallback.accessValueOrFailure(").append(receiver).append(", PATH_")
+                        .append(constant).append(");\n");
+                return body.toString();
+            }
+            var expression = access.expression(receiver);
+            if (i == segments.length - 1) {
+                body.append(indent).append("return ").append(expression).append(";\n");
+                return body.toString();
+            }
+            var variable = "v" + i;
+            body.append(indent).append("var ").append(variable).append(" = ").append(expression).append(";\n");
+            // The primitives are never null, and comparing them with null doesn't compile.
+            if (!access.type().getKind().isPrimitive()) {
+                body.append(indent).append("if (").append(variable).append(" == null) {\n");
+                body.append(indent).append("    return null;\n");
+                body.append(indent).append("}\n");
+            }
+            receiver = variable;
+            receiverType = access.type();
+        }
+        return body.toString();
+    }
+
+    /**
+     * Resolves the way of reading the field of the receiver, the same way as {@code PojoFieldAccessor}.
+     *
+     * @return The way of reading, or {@code null} if couldn't be resolved at compile time.
+     */
+    private Access resolve(TypeMirror receiverType, String field, PackageElement packageElement) {
+        var types = processingEnv.getTypeUtils();
+        var elements = processingEnv.getElementUtils();
+        if (receiverType.getKind() == TypeKind.TYPEVAR) {
+            receiverType = types.erasure(receiverType);
+        }
+        if (receiverType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        var mapType = types.erasure(elements.getTypeElement("java.util.Map").asType());
+        if (types.isAssignable(types.erasure(receiverType), mapType)) {
+            return new Access("((java.util.Map<?, ?>) ", ").get(" + literal(field) + ")", elements.getTypeElement("java.lang.Object").asType());
+        }
+        var declaredType = (DeclaredType) receiverType;
+        var typeElement = (TypeElement) declaredType.asElement();
+        if (!isAccessible(typeElement, packageElement)) {
+            return null;
+        }
+
+        if (typeElement.getKind() == ElementKind.RECORD) {
+            for (var component : typeElement.getRecordComponents()) {
+                if (component.getSimpleName().contentEquals(field)) {
+                    return getterAccess(declaredType, component.getAccessor(), packageElement);
+                }
+            }
+        }
+
+        var variable = findField(typeElement, field);
+        if (variable == null) {
+            return null;
+        }
+        if (variable.getModifiers().contains(Modifier.PUBLIC)) {
+            if (!isAccessible((TypeElement) variable.getEnclosingElement(), packageElement)) {
+                return null;
+            }
+            return new Access("", "." + field, types.asMemberOf(declaredType, variable));
+        }
+
+        var getter = findGetter(typeElement, variable);
+        return getter == null ? null : getterAccess(declaredType, getter, packageElement);
+    }
+
+    /**
+     * Finds the public getter of the non-public field, i.e. {@code field()}, {@code getField()} or {@code isField()} for
+     * boolean fields, in the same order as {@code PojoFieldAccessor}.
+     *
+     * @return The getter, or {@code null} if not found.
+     */
+    private ExecutableElement findGetter(TypeElement typeElement, VariableElement variable) {
+        var types = processingEnv.getTypeUtils();
+        var elements = processingEnv.getElementUtils();
+        var field = variable.getSimpleName().toString();
+        var fieldWithFirstLetterCapitalized = field.substring(0, 1).toUpperCase() + field.substring(1);
+        var possibleGetter = new ArrayList<String>();
+        possibleGetter.add(field);
+        possibleGetter.add("get" + fieldWithFirstLetterCapitalized);
+        var fieldType = variable.asType();
+        if (fieldType.getKind() == TypeKind.BOOLEAN || types.isSameType(fieldType, elements.getTypeElement("java.lang.Boolean").asType())) {
+            possibleGetter.add("is" + fieldWithFirstLetterCapitalized);
+        }
+        var methods = ElementFilter.methodsIn(elements.getAllMembers(typeElement));
+        for (var name : possibleGetter) {
+            for (var method : methods) {
+                if (method.getSimpleName().contentEquals(name) && method.getParameters().isEmpty()
+                        && method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)
+                        && method.getReturnType().getKind() != TypeKind.VOID) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Access getterAccess(DeclaredType declaredType, ExecutableElement getter, PackageElement packageElement) {
+        if (!getter.getModifiers().contains(Modifier.PUBLIC) || !isAccessible((TypeElement) getter.getEnclosingElement(), packageElement)) {
+            return null;
+        }
+        var getterType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, getter);
+        return new Access("", "." + getter.getSimpleName() + "()", getterType.getReturnType());
+    }
+
+    private static VariableElement findField(TypeElement type, String field) {
+        for (var current = type; current != null; ) {
+            for (var variable : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (variable.getSimpleName().contentEquals(field)) {
+                    return variable;
+                }
+            }
+            var superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return null;
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement packageElement) {
+        Element element = type;
+        while (element instanceof TypeElement current) {
+            if (current.getNestingKind() == NestingKind.LOCAL || current.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            var modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !processingEnv.getElementUtils().getPackageOf(current).equals(packageElement)) {
+                return false;
+            }
+            element = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static String literal(String value) {
+        var literal = new StringBuilder("\"");
+        for (var c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Way of reading the field, i.e. the expression {@code prefix + receiver + suffix}.
+     *
+     * @param prefix The part of the expression before the receiver.
+     * @param suffix The part of the expression after the receiver.
+     * @param type The type of the field.
+     */
+    private record Access(String prefix, String suffix, TypeMirror type) {
+
+        String expression(String receiver) {
+            return prefix + receiver + suffix;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.reginald.hv.extension.processor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The {@code reflect-config.json} of GraalVM native image, registering the classes, fields, getters and constructors
+ * which are accessed reflectively at runtime.
+ * <br>
+ * The entries are sorted by the class names and the member names, so that the same sources always generate the same
+ * file.
+ */
+final class ReflectionConfig {
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    /**
+     * Registers the public constructor with no arguments of the class.
+     *
+     * @param binaryName The binary name of the class.
+     */
+    void constructor(String binaryName) {
+        entry(binaryName).constructor = true;
+    }
+
+    /**
+     * Registers the declared field of the class.
+     *
+     * @param binaryName The binary name of the class declaring the field.
+     * @param field The name of the field.
+     */
+    void field(String binaryName, String field) {
+        entry(binaryName).fields.add(field);
+    }
+
+    /**
+     * Registers the method with no arguments of the class.
+     *
+     * @param binaryName The binary name of the class declaring the method.
+     * @param method The name of the method.
+     */
+    void method(String binaryName, String method) {
+        entry(binaryName).methods.add(method);
+    }
+
+    /**
+     * Registers the record, whose components are looked up reflectively.
+     *
+     * @param binaryName The binary name of the record.
+     */
+    void record(String binaryName) {
+        entry(binaryName).record = true;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private Entry entry(String binaryName) {
+        return entries.computeIfAbsent(binaryName, name -> new Entry());
+    }
+
+    /**
+     * @return The JSON content.
+     */
+    String toJson() {
+        var json = new StringBuilder("[\n");
+        var first = true;
+        for (var entry : entries.entrySet()) {
+            if (!first) {
+                json.append(",\n");
+            }
+            first = false;
+            var members = entry.getValue();
+            json.append("  {\n");
+            json.append("    \"name\": ").append(string(entry.getKey()));
+            if (members.record) {
+                json.append(",\n    \"allDeclaredFields\": true");
+                json.append(",\n    \"queryAllDeclaredMethods\": true");
+            }
+            if (!members.fields.isEmpty()) {
+                json.append(",\n    \"fields\": [");
+                var firstField = true;
+                for (var field : members.fields) {
+                    json.append(firstField ? "\n" : ",\n").append("      {\"name\": ").append(string(field)).append('}');
+                    firstField = false;
+                }
+                json.append("\n    ]");
+            }
+            var methods = new TreeSet<>(members.methods);
+            if (members.constructor) {
+                methods.add("<init>");
+            }
+            if (!methods.isEmpty()) {
+                json.append(",\n    \"methods\": [");
+                var firstMethod = true;
+                for (var method : methods) {
+                    json.append(firstMethod ? "\n" : ",\n").append("      {\"name\": ").append(string(method)).append(", \"parameterTypes\": []}");
+                    firstMethod = false;
+                }
+                json.append("\n    ]");
+            }
+            json.append("\n  }");
+        }
+        return json.append("\n]\n").toString();
+    }
+
+    private static String string(String value) {
+        var literal = new StringBuilder("\"");
+        for (var c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                default -> literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static final class Entry {
+
+        private final Set<String> fields = new TreeSet<>();
+
+        private final Set<String> methods = new TreeSet<>();
+
+        private boolean constructor;
+
+        private boolean record;
+    }
+}
@@ -0,0 +1,477 @@
+package io.github.reginald.hv.extension.processor;
+
+import io.github.reginald.hv.extension.validators.Compare;
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldPath;
+import io.github.reginald.hv.extension.validators.internal.GeneratedFieldAccessors;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class FieldAccessorProcessorTests {
+
+    private static final String POJO_SOURCE = """
+            package sample;
+
+            import io.github.reginald.hv.extension.validators.*;
+
+            import java.util.Map;
+
+            @Or(fields = {"a", "inner.b"})
+            @Xor(fields = {"a", "map.k", "missing"})
+            @Compare(left = "a", operator = Compare.Operator.NE, right = "inner.b")
+            public record Pojo(String a, Inner inner, Map<String, String> map) {
+
+                public record Inner(String b) {
+                }
+            }
+            """;
+
+    private static final String BEAN_SOURCE = """
+            package sample;
+
+            import io.github.reginald.hv.extension.validators.*;
+
+            @And.List({@And(fields = {"name", "enabled"}), @And(fields = {"visible", "hidden"})})
+            public class Bean extends BaseBean {
+
+                public Boolean visible;
+
+                private boolean enabled;
+
+                private String hidden;
+
+                public boolean isEnabled() {
+                    return enabled;
+                }
+
+                public void setEnabled(boolean enabled) {
+                    this.enabled = enabled;
+                }
+            }
+
+            class BaseBean {
+
+                private String name;
+
+                public String getName() {
+                    if ("boom".equals(name)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return name;
+                }
+
+                public void setName(String name) {
+                    this.name = name;
+                }
+            }
+            """;
+
+    private static final String PRIVATE_SOURCE = """
+            package sample;
+
+            import io.github.reginald.hv.extension.validators.*;
+
+            public class Outer {
+
+                @Or(fields = {"a"})
+                private record Hidden(String a) {
+                }
+            }
+            """;
+
+    private static final String ORDER_SOURCE = """
+            package sample;
+
+            import io.github.reginald.hv.extension.validators.*;
+
+            import java.util.List;
+
+            @Or(fields = {"lines[0].sku", "notes[1]", "lines[1].price"}, fieldVerifier = NonNullFieldVerifier.class)
+            public record Order(List<Line> lines, String[] notes) {
+
+                public static class Line {
+
+                    public String sku;
+
+                    private Integer price;
+
+                    public Integer getPrice() {
+                        return price;
+                    }
+                }
+            }
+            """;
+
+    private static final String PRIMITIVE_SOURCE = """
+            package sample;
+
+            import io.github.reginald.hv.extension.validators.*;
+
+            @Or(fields = {"a", "count", "count.x"})
+            public record Counter(String a, int count) {
+            }
+            """;
+
+    @TempDir
+    static Path output;
+
+    private static ClassLoader classLoader;
+
+    private static Validator validator;
+
+    @BeforeAll
+    public static void compile() throws Exception {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            var classPath = Stream.of(FieldAccessor.class, jakarta.validation.Constraint.class)
+                    .map(FieldAccessorProcessorTests::location)
+                    .collect(Collectors.joining(File.pathSeparator));
+            var options = List.of("-classpath", classPath, "-d", output.toString(), "-s", output.toString());
+            var sources = List.of(source("sample/Pojo.java", POJO_SOURCE), source("sample/Bean.java", BEAN_SOURCE), source("sample/Outer.java", PRIVATE_SOURCE),
+                    source("sample/Order.java", ORDER_SOURCE), source("sample/Counter.java", PRIMITIVE_SOURCE));
+            var task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+            task.setProcessors(List.of(new FieldAccessorProcessor()));
+            Assertions.assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        }
+        classLoader = new URLClassLoader(new java.net.URL[]{output.toUri().toURL()}, FieldAccessorProcessorTests.class.getClassLoader());
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    private static String location(Class<?> clazz) {
+        try {
+            return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String path, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + path), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    @Test
+    public void testGeneratedSource() throws Exception {
+        var source = Files.readString(output.resolve("sample/Pojo_FieldAccessor.java"));
+        Assertions.assertTrue(source.contains("case \"a\":"));
+        Assertions.assertTrue(source.contains("case \"inner.b\":"));
+        Assertions.assertTrue(source.contains("case \"map.k\":"));
+        Assertions.assertFalse(source.contains("case \"missing\":"));
+        Assertions.assertFalse(Files.exists(output.resolve("sample/Pojo_Inner_FieldAccessor.java")));
+        Assertions.assertFalse(Files.exists(output.resolve("sample/Outer_Hidden_FieldAccessor.java")));
+    }
+
+    @Test
+    public void testRecordAccessor() throws Exception {
+        var pojoClass = classLoader.loadClass("sample.Pojo");
+        var innerClass = classLoader.loadClass("sample.Pojo$Inner");
+        var inner = innerClass.getConstructor(String.class).newInstance("b");
+        var pojo = pojoClass.getConstructor(String.class, innerClass, Map.class).newInstance("a", inner, Map.of("k", "v"));
+
+        var accessor = GeneratedFieldAccessors.find(pojoClass);
+        Assertions.assertNotNull(accessor);
+        Assertions.assertEquals("sample.Pojo_FieldAccessor", accessor.getClass().getName());
+        Assertions.assertEquals("a", accessor.access(pojo, "a").value());
+        Assertions.assertEquals("b", accessor.access(pojo, "inner.b").value());
+        Assertions.assertEquals("v", accessor.access(pojo, "map.k").value());
+
+        var pojoWithoutInner = pojoClass.getConstructor(String.class, innerClass, Map.class).newInstance("a", null, Map.of());
+        Assertions.assertNull(accessor.access(pojoWithoutInner, "inner.b").value());
+
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(pojo, "missing"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+        var failure = accessor.accessValueOrFailure(pojo, FieldPath.compile("missing"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, Assertions.assertInstanceOf(FieldAccessor.AccessFailure.class, failure).cause());
+    }
+
+    @Test
+    public void testPathThroughPrimitive() throws Exception {
+        var counterClass = classLoader.loadClass("sample.Counter");
+        var counter = counterClass.getConstructor(String.class, int.class).newInstance("a", 3);
+
+        var accessor = GeneratedFieldAccessors.find(counterClass);
+        Assertions.assertNotNull(accessor);
+        Assertions.assertEquals(3, accessor.access(counter, "count").value());
+        var failure = accessor.accessValueOrFailure(counter, FieldPath.compile("count.x"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, Assertions.assertInstanceOf(FieldAccessor.AccessFailure.class, failure).cause());
+        var source = Files.readString(output.resolve("sample/Counter_FieldAccessor.java"));
+        Assertions.assertFalse(source.contains("v0 == null"), source);
+    }
+
+    @Test
+    public void testBeanAccessor() throws Exception {
+        var beanClass = classLoader.loadClass("sample.Bean");
+        var bean = beanClass.getConstructor().newInstance();
+        beanClass.getMethod("setName", String.class).invoke(bean, "name");
+        beanClass.getMethod("setEnabled", boolean.class).invoke(bean, true);
+
+        var accessor = GeneratedFieldAccessors.find(beanClass);
+        Assertions.assertNotNull(accessor);
+        Assertions.assertEquals("name", accessor.access(bean, "name").value());
+        Assertions.assertEquals(true, accessor.access(bean, "enabled").value());
+        Assertions.assertNull(accessor.access(bean, "visible").value());
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(bean, "hidden"));
+        Assertions.assertInstanceOf(NoSuchMethodException.class, e.getCause());
+
+        beanClass.getMethod("setName", String.class).invoke(bean, "boom");
+        e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(bean, "name"));
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+    }
+
+    @Test
+    public void testValidationWithGeneratedAccessor() throws Exception {
+        var pojoClass = classLoader.loadClass("sample.Pojo");
+        var innerClass = classLoader.loadClass("sample.Pojo$Inner");
+        var pojo = pojoClass.getConstructor(String.class, innerClass, Map.class).newInstance(null, null, Map.of("k", "v"));
+        var violations = validator.validate(pojo).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(3, violations.size());
+        var inner = innerClass.getConstructor(String.class).newInstance("b");
+        var same = pojoClass.getConstructor(String.class, innerClass, Map.class).newInstance("b", inner, Map.of("k", "v"));
+        Assertions.assertTrue(validator.validate(same).stream().map(ConstraintViolation::getMessage).toList()
+                .contains("Field [a] must be not equal to field [inner.b]."));
+        Assertions.assertTrue(violations.contains("At least one of the fields [a, inner.b] required."));
+        Assertions.assertTrue(violations.contains("Field [missing] doesn't exist."));
+        Assertions.assertTrue(violations.contains("One and only one of the fields [a, map.k, missing] required."));
+    }
+
+    @Test
+    public void testReflectionConfigCoversDeclaredPaths() throws Exception {
+        var config = reflectionConfig();
+        for (var name : List.of("sample.Pojo", "sample.Bean", "sample.Outer$Hidden", "sample.Order", "sample.Counter")) {
+            var type = classLoader.loadClass(name);
+            for (var path : declaredPaths(type)) {
+                assertCovered(config, type, path);
+            }
+        }
+        Assertions.assertTrue(methods(config, "sample.Pojo$Inner").contains("b"));
+        Assertions.assertTrue(fields(config, "sample.BaseBean").contains("name"));
+        Assertions.assertTrue(methods(config, "sample.Order$Line").contains("getPrice"));
+        Assertions.assertTrue(methods(config, "sample.Outer$Hidden").contains("a"));
+    }
+
+    @Test
+    public void testReflectionConfigConstructors() throws Exception {
+        var config = reflectionConfig();
+        Assertions.assertTrue(methods(config, "sample.Pojo_FieldAccessor").contains("<init>"));
+        Assertions.assertTrue(methods(config, "sample.Bean_FieldAccessor").contains("<init>"));
+        Assertions.assertTrue(methods(config, "io.github.reginald.hv.extension.validators.NonNullFieldVerifier").contains("<init>"));
+        Assertions.assertFalse(config.containsKey("sample.Outer_Hidden_FieldAccessor"));
+    }
+
+    /**
+     * Resolves each segment of the path the same way as {@code PojoFieldAccessor}, and asserts that every member looked
+     * up or read reflectively is registered.
+     */
+    private static void assertCovered(Map<String, Map<String, Object>> config, Class<?> type, String path) {
+        var compiled = FieldPath.compile(path);
+        Type current = type;
+        for (var i = 0; i < compiled.length(); i++) {
+            var raw = current instanceof ParameterizedType parameterized ? (Class<?>) parameterized.getRawType() : (Class<?>) current;
+            if (compiled.isIndex(i)) {
+                current = raw.isArray() ? raw.getComponentType() : ((ParameterizedType) current).getActualTypeArguments()[0];
+                continue;
+            }
+            if (Map.class.isAssignableFrom(raw)) {
+                return;
+            }
+            var member = resolveMember(raw, compiled.segment(i));
+            if (member == null) {
+                return;
+            }
+            var declaring = member.getDeclaringClass().getName();
+            var message = path + " of " + type.getName();
+            if (member instanceof Method getter) {
+                Assertions.assertTrue(methods(config, declaring).contains(getter.getName()), message);
+                current = getter.getGenericReturnType();
+            } else {
+                Assertions.assertTrue(fields(config, declaring).contains(member.getName()), message);
+                current = ((Field) member).getGenericType();
+            }
+            if (raw.isRecord()) {
+                Assertions.assertEquals(true, config.get(raw.getName()).get("allDeclaredFields"), message);
+            }
+        }
+    }
+
+    private static Member resolveMember(Class<?> clazz, String field) {
+        if (clazz.isRecord()) {
+            for (var component : clazz.getRecordComponents()) {
+                if (component.getName().equals(field)) {
+                    return component.getAccessor();
+                }
+            }
+        }
+        for (var c = clazz; c != null; c = c.getSuperclass()) {
+            for (var f : c.getDeclaredFields()) {
+                if (!f.getName().equals(field)) {
+                    continue;
+                }
+                if (Modifier.isPublic(f.getModifiers())) {
+                    return f;
+                }
+                var capitalized = field.substring(0, 1).toUpperCase() + field.substring(1);
+                for (var name : List.of(field, "get" + capitalized, "is" + capitalized)) {
+                    try {
+                        return clazz.getMethod(name);
+                    } catch (NoSuchMethodException ignored) {
+                        // Try the next candidate.
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> declaredPaths(Class<?> type) throws ReflectiveOperationException {
+        var paths = new ArrayList<String>();
+        for (var annotation : type.getAnnotations()) {
+            var constraints = annotation.annotationType().getSimpleName().equals("List")
+                    ? (Annotation[]) annotation.annotationType().getMethod("value").invoke(annotation)
+                    : new Annotation[]{annotation};
+            for (var constraint : constraints) {
+                if (constraint instanceof Compare compare) {
+                    paths.addAll(List.of(compare.left(), compare.right()));
+                } else {
+                    paths.addAll(List.of((String[]) constraint.annotationType().getMethod("fields").invoke(constraint)));
+                }
+            }
+        }
+        Assertions.assertFalse(paths.isEmpty(), type.getName());
+        return paths;
+    }
+
+    private static Map<String, Map<String, Object>> reflectionConfig() throws Exception {
+        var path = output.resolve("META-INF/native-image/" + FieldAccessorProcessor.DEFAULT_NATIVE_IMAGE_DIR + "/reflect-config.json");
+        var config = new LinkedHashMap<String, Map<String, Object>>();
+        for (var entry : (List<?>) new JsonReader(Files.readString(path)).read()) {
+            @SuppressWarnings("unchecked")
+            var members = (Map<String, Object>) entry;
+            config.put((String) members.get("name"), members);
+        }
+        return config;
+    }
+
+    private static List<String> fields(Map<String, Map<String, Object>> config, String type) {
+        return names(config, type, "fields");
+    }
+
+    private static List<String> methods(Map<String, Map<String, Object>> config, String type) {
+        return names(config, type, "methods");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> names(Map<String, Map<String, Object>> config, String type, String kind) {
+        var entry = config.get(type);
+        Assertions.assertNotNull(entry, type + " NOT registered.");
+        return ((List<Map<String, Object>>) entry.getOrDefault(kind, List.of())).stream().map(m -> (String) m.get("name")).toList();
+    }
+
+    /**
+     * Minimal reader of the generated JSON, i.e. objects, arrays, strings and booleans.
+     */
+    private static final class JsonReader {
+
+        private final String json;
+
+        private int position;
+
+        JsonReader(String json) {
+            this.json = json;
+        }
+
+        Object read() {
+            skipWhitespaces();
+            var c = json.charAt(position);
+            if (c == '{') {
+                var object = new LinkedHashMap<String, Object>();
+                position++;
+                while (next() != '}') {
+                    var key = (String) read();
+                    Assertions.assertEquals(':', next());
+                    object.put(key, read());
+                    if (peek() == ',') {
+                        position++;
+                    }
+                }
+                return object;
+            }
+            if (c == '[') {
+                var array = new ArrayList<>();
+                position++;
+                while (peek() != ']') {
+                    array.add(read());
+                    if (peek() == ',') {
+                        position++;
+                    }
+                }
+                position++;
+                return array;
+            }
+            if (c == '"') {
+                var string = new StringBuilder();
+                for (position++; json.charAt(position) != '"'; position++) {
+                    if (json.charAt(position) == '\\') {
+                        position++;
+                    }
+                    string.append(json.charAt(position));
+                }
+                position++;
+                return string.toString();
+            }
+            var literal = json.startsWith("true", position);
+            position += literal ? 4 : 5;
+            return literal;
+        }
+
+        private char peek() {
+            skipWhitespaces();
+            return json.charAt(position);
+        }
+
+        private char next() {
+            var c = peek();
+            if (c == '}' || c == ':') {
+                position++;
+            }
+            return c;
+        }
+
+        private void skipWhitespaces() {
+            while (Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
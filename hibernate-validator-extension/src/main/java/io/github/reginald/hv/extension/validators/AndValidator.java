@@ -1,9 +1,6 @@
 package io.github.reginald.hv.extension.validators;
 
 import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Arrays;
 
 public class AndValidator extends CrossingFieldsValidator<And> {
 
@@ -18,6 +15,7 @@ public class AndValidator extends CrossingFieldsValidator<And> {
         fields = constraintAnnotation.fields();
         accessorClass = constraintAnnotation.accessor();
         verifierClass = constraintAnnotation.fieldVerifier();
+        super.initialize(constraintAnnotation);
     }
 
     @Override
@@ -35,12 +33,14 @@ public class AndValidator extends CrossingFieldsValidator<And> {
         return verifierClass;
     }
 
+    /**
+     * Invalid as soon as both valid and invalid fields are found.
+     */
     @Override
-    protected boolean isValid(FieldVerifier verifier, Object validatingTarget, FieldAccessor.FieldTuple[] fields, ConstraintValidatorContext context) {
-        var validCount = Arrays.stream(fields)
-                .map(field -> verifier.verify(validatingTarget, field.field(), field.value()))
-                .filter(valid -> valid)
-                .count();
-        return validCount == 0 || validCount == fields.length;
+    protected Decision decide(int validCount, int invalidCount, int fieldCount) {
+        if (validCount > 0 && invalidCount > 0) {
+            return Decision.INVALID;
+        }
+        return Decision.whenAllVerified(validCount, invalidCount, fieldCount, true);
     }
 }
@@ -0,0 +1,293 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
+import io.github.reginald.hv.extension.validators.internal.FusedEvaluation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Validates the crossing-field constraints, e.g. {@link Or} and {@link And}, of many objects of the same class at once.
+ * <br>
+ * The constraints declared on the class and its superclasses are resolved only once, together with their accessors,
+ * verifiers and compiled fields, and then evaluated across the objects in a tight loop. Instead of the constraint
+ * violations, the result is the bitmap of the invalid objects per constraint.
+ * <pre>{@code
+ * var result = BatchValidator.of(Dto.class).validate(dtos, ForkJoinPool.commonPool());
+ * result.invalid().stream().forEach(index -> reject(dtos.get(index)));
+ * }</pre>
+ * The classes declaring several constraints over the overlapping fields could be validated by the {@link #fused()}
+ * batch validator instead, which reads each distinct field only once per object.
+ * <br>
+ * Unlike the {@link jakarta.validation.Validator}, the groups are ignored, i.e. all the crossing-field constraints are
+ * evaluated, and the other constraints are NOT evaluated. The {@code null} objects are skipped as valid.
+ * <br>
+ * Instances are thread-safe.
+ *
+ * @param <T> The class of the validating objects.
+ */
+public final class BatchValidator<T> {
+
+    /**
+     * Objects validated by a single task when partitioning. Multiple of {@link Long#SIZE}, so that the tasks never write
+     * the same word of the bitmap.
+     */
+    static final int PARTITION_SIZE = 64 * Long.SIZE;
+
+    private final Class<T> type;
+
+    private final List<Annotation> constraints;
+
+    private final List<CrossingFieldsValidator<?>> validators;
+
+    private final FusedEvaluation fusion;
+
+    private BatchValidator(Class<T> type, List<Annotation> constraints, List<CrossingFieldsValidator<?>> validators, FusedEvaluation fusion) {
+        this.type = type;
+        this.constraints = constraints;
+        this.validators = validators;
+        this.fusion = fusion;
+    }
+
+    /**
+     * Resolves the crossing-field constraints of the class.
+     *
+     * @param type The class of the validating objects.
+     * @param <T> The class of the validating objects.
+     * @return The batch validator.
+     * @throws IllegalArgumentException Throws if the validator of any constraint can NOT be initialized.
+     */
+    public static <T> BatchValidator<T> of(Class<T> type) {
+        var constraints = CrossingFieldsConstraints.of(type);
+        var validators = new ArrayList<CrossingFieldsValidator<?>>(constraints.size());
+        for (var constraint : constraints) {
+            validators.add(CrossingFieldsConstraints.initialize(constraint));
+        }
+        return new BatchValidator<>(type, constraints, List.copyOf(validators), null);
+    }
+
+    /**
+     * Derives the batch validator evaluating all the constraints of each object together, instead of each constraint
+     * across all the objects.
+     * <br>
+     * The fields shared by the constraints are read only once per object, and so are the verifications of them, while
+     * the results are exactly the same. The gain grows with the count of the constraints referring to the same
+     * fields, e.g. the {@code @Or.List} of several constraints over the common fields.
+     * <br>
+     * Falls back to evaluating the constraints separately if any {@link ValidationListener} is registered, so that the
+     * listeners are still notified of each constraint.
+     *
+     * @return The derived batch validator.
+     */
+    public BatchValidator<T> fused() {
+        if (fusion != null) {
+            return this;
+        }
+        var fused = FusedEvaluation.of(type, validators);
+        return fused == null ? this : new BatchValidator<>(type, constraints, validators, fused);
+    }
+
+    /**
+     * @return {@code true} if the constraints of each object are evaluated together, see {@link #fused()}.
+     */
+    public boolean isFused() {
+        return fusion != null;
+    }
+
+    /**
+     * @return The crossing-field constraints evaluated, in the order of the bitmaps of the {@link Result}.
+     */
+    public List<Annotation> constraints() {
+        return constraints;
+    }
+
+    /**
+     * Validates the objects sequentially.
+     *
+     * @param objects The validating objects.
+     * @return The result, indexed in the iteration order of the collection.
+     */
+    public Result validate(Collection<? extends T> objects) {
+        return validateAll(objects.toArray(), null);
+    }
+
+    /**
+     * Validates the objects sequentially.
+     *
+     * @param objects The validating objects.
+     * @return The result, indexed by the array.
+     */
+    public Result validate(T[] objects) {
+        return validateAll(objects, null);
+    }
+
+    /**
+     * Validates the objects, partitioned across the pool if there are enough of them.
+     *
+     * @param objects The validating objects.
+     * @param pool The pool running the partitions.
+     * @return The result, indexed in the iteration order of the collection.
+     */
+    public Result validate(Collection<? extends T> objects, ForkJoinPool pool) {
+        return validateAll(objects.toArray(), Objects.requireNonNull(pool));
+    }
+
+    /**
+     * Validates the objects, partitioned across the pool if there are enough of them.
+     *
+     * @param objects The validating objects.
+     * @param pool The pool running the partitions.
+     * @return The result, indexed by the array.
+     */
+    public Result validate(T[] objects, ForkJoinPool pool) {
+        return validateAll(objects, Objects.requireNonNull(pool));
+    }
+
+    private Result validateAll(Object[] objects, ForkJoinPool pool) {
+        var words = new long[validators.size()][(objects.length + Long.SIZE - 1) / Long.SIZE];
+        if (pool == null || objects.length <= PARTITION_SIZE) {
+            evaluate(objects, 0, objects.length, words);
+        } else {
+            pool.invoke(new Partition(objects, 0, objects.length, words));
+        }
+        var violations = new BitSet[words.length];
+        for (var i = 0; i < words.length; i++) {
+            violations[i] = BitSet.valueOf(words[i]);
+        }
+        return new Result(objects.length, violations);
+    }
+
+    private void evaluate(Object[] objects, int from, int to, long[][] words) {
+        if (fusion != null) {
+            evaluateFused(objects, from, to, words);
+            return;
+        }
+        for (var c = 0; c < validators.size(); c++) {
+            // Bound per partition, since the NotThreadSafe components are used exclusively.
+            Predicate<Object> predicate = validators.get(c).bind(type);
+            var bits = words[c];
+            for (var i = from; i < to; i++) {
+                var object = objects[i];
+                if (object != null && !predicate.test(object)) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    private void evaluateFused(Object[] objects, int from, int to, long[][] words) {
+        // Created per partition, since the NotThreadSafe components are used exclusively.
+        var evaluator = fusion.evaluator();
+        for (var i = from; i < to; i++) {
+            var object = objects[i];
+            if (object == null) {
+                continue;
+            }
+            evaluator.reset(object);
+            for (var c = 0; c < words.length; c++) {
+                if (!evaluator.isValid(c)) {
+                    words[c][i >>> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    private final class Partition extends RecursiveAction {
+
+        private final Object[] objects;
+
+        private final int from;
+
+        private final int to;
+
+        private final long[][] words;
+
+        private Partition(Object[] objects, int from, int to, long[][] words) {
+            this.objects = objects;
+            this.from = from;
+            this.to = to;
+            this.words = words;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTITION_SIZE) {
+                evaluate(objects, from, to, words);
+                return;
+            }
+            var middle = from + Math.max(1, (to - from) / 2 / PARTITION_SIZE) * PARTITION_SIZE;
+            invokeAll(new Partition(objects, from, middle, words), new Partition(objects, middle, to, words));
+        }
+    }
+
+    /**
+     * Result of the batch validation.
+     */
+    public static final class Result {
+
+        private final int size;
+
+        private final BitSet[] violations;
+
+        private final BitSet invalid;
+
+        private Result(int size, BitSet[] violations) {
+            this.size = size;
+            this.violations = violations;
+            this.invalid = new BitSet(size);
+            for (var violation : violations) {
+                invalid.or(violation);
+            }
+        }
+
+        /**
+         * @return The count of the validated objects.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Determines whether the object satisfies all the constraints.
+         *
+         * @param index The index of the object.
+         * @return {@code true} if valid.
+         * @throws IndexOutOfBoundsException Throws if the index is out of range.
+         */
+        public boolean isValid(int index) {
+            Objects.checkIndex(index, size);
+            return !invalid.get(index);
+        }
+
+        /**
+         * @return The count of the invalid objects.
+         */
+        public int invalidCount() {
+            return invalid.cardinality();
+        }
+
+        /**
+         * @return The indices of the objects violating any constraint. A copy.
+         */
+        public BitSet invalid() {
+            return (BitSet) invalid.clone();
+        }
+
+        /**
+         * Provides the indices of the objects violating the specific constraint.
+         *
+         * @param constraintIndex The index of the constraint in {@link BatchValidator#constraints()}.
+         * @return The indices. A copy.
+         */
+        public BitSet violations(int constraintIndex) {
+            return (BitSet) violations[constraintIndex].clone();
+        }
+    }
+}
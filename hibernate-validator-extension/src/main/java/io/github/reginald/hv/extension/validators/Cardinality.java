@@ -0,0 +1,83 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * Indicates that at least {@link #min()} and at most {@link #max()} of the specific fields of the annotated object
+ * contain valid values, e.g.
+ * <pre>
+ *     &#064;Cardinality(fields = {"email", "phone", "address"}, min = 1, max = 2)
+ * </pre>
+ * Generalizes {@link Or} ({@code min = 1}), {@link Xor} ({@code min = 1, max = 1}) and {@link Oxor} ({@code max = 1}).
+ * The fields are verified only until the result is decided, i.e. once {@code max + 1} valid fields are found, or once
+ * the remaining fields are too few to reach {@code min}.
+ * <br>
+ * The bounds should be {@code 0 <= min <= max} and {@code min <= fields.length}, otherwise
+ * {@link jakarta.validation.ConstraintDeclarationException} is thrown when initializing.
+ */
+@Target({ElementType.TYPE, ElementType.CONSTRUCTOR, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = CardinalityValidator.class)
+@Documented
+@Repeatable(Cardinality.List.class)
+public @interface Cardinality {
+
+    String message() default "${max == 2147483647 ? 'At least ' += min : min == max ? 'Exactly ' += min"
+            + " : min == 0 ? 'At most ' += max : 'Between ' += min += ' and ' += max} of the fields {fields} required.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * The fields of the annotated object should be checked.<br>
+     *
+     * @return The fields' names.
+     */
+    String[] fields();
+
+    /**
+     * The minimum count of the valid fields, inclusive.
+     *
+     * @return The minimum count.
+     */
+    int min() default 0;
+
+    /**
+     * The maximum count of the valid fields, inclusive.
+     *
+     * @return The maximum count.
+     */
+    int max() default Integer.MAX_VALUE;
+
+    /**
+     * Defines the field accessor implementation.
+     *
+     * @return The implementation class of the field accessor gonna be used.
+     * @see FieldAccessor
+     * @see PojoFieldAccessor#access(Object, String)
+     */
+    Class<? extends FieldAccessor> accessor() default PojoFieldAccessor.class;
+
+    /**
+     * Defines the field verifier implementation.
+     *
+     * @return The implementation class of the field verifier gonna be used.
+     * @see FieldVerifier
+     * @see NonEmptyStringFieldVerifier#verify(Object, String, Object)
+     */
+    Class<? extends FieldVerifier> fieldVerifier() default NonEmptyStringFieldVerifier.class;
+
+    /**
+     * Defines multiple constraints for the same element.
+     */
+    @Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @interface List {
+        Cardinality[] value();
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
+import jakarta.validation.ConstraintDeclarationException;
+
+import java.util.Arrays;
+
+/**
+ * Validator of {@link Cardinality}, counting the valid fields until the count is decided to be within the bounds or
+ * not, see {@link #decide(int, int, int)}.
+ * <br>
+ * The bounds are checked when being initialized, so that the constraints never satisfied, e.g. requiring more valid
+ * fields than declared, fail at startup instead of at every validation.
+ */
+public class CardinalityValidator extends CrossingFieldsValidator<Cardinality> {
+
+    private String[] fields;
+
+    private Class<? extends FieldAccessor> accessorClass;
+
+    private Class<? extends FieldVerifier> verifierClass;
+
+    private int min;
+
+    private int max;
+
+    @Override
+    public void initialize(Cardinality constraintAnnotation) {
+        fields = constraintAnnotation.fields();
+        accessorClass = constraintAnnotation.accessor();
+        verifierClass = constraintAnnotation.fieldVerifier();
+        min = constraintAnnotation.min();
+        max = constraintAnnotation.max();
+        if (min < 0 || max < min || min > fields.length) {
+            throw new ConstraintDeclarationException("Cardinality [" + min + ", " + max + "] of the fields "
+                    + Arrays.toString(fields) + " is NOT valid.");
+        }
+        super.initialize(constraintAnnotation);
+    }
+
+    @Override
+    protected String[] fields() {
+        return fields;
+    }
+
+    @Override
+    protected Class<? extends FieldAccessor> accessor() {
+        return accessorClass;
+    }
+
+    @Override
+    protected Class<? extends FieldVerifier> verifier() {
+        return verifierClass;
+    }
+
+    /**
+     * Invalid as soon as more than {@code max} valid fields are found, or the remaining fields are too few to reach
+     * {@code min}. Valid as soon as {@code min} valid fields are found and the remaining fields are too few to exceed
+     * {@code max}.
+     */
+    @Override
+    protected Decision decide(int validCount, int invalidCount, int fieldCount) {
+        var remaining = fieldCount - validCount - invalidCount;
+        if (validCount > max || validCount + remaining < min) {
+            return Decision.INVALID;
+        }
+        if (validCount >= min && validCount + remaining <= max) {
+            return Decision.VALID;
+        }
+        return Decision.UNDECIDED;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * Indicates that the value of one field of the annotated object compares with the value of another field as the
+ * {@link #operator()} specifies, e.g.
+ * <pre>
+ *     &#064;Compare(left = "start", operator = Compare.Operator.LT, right = "end")
+ *     &#064;Compare(left = "shippedAt", operator = Compare.Operator.GE, right = "orderedAt")
+ *     record Order(LocalDate start, LocalDate end, Instant orderedAt, Instant shippedAt) {...}
+ * </pre>
+ * The values could be the {@link Comparable}s of the same class, e.g. {@link String}, {@link java.math.BigDecimal} or
+ * {@link java.time.LocalDate}, the boxed numeric primitives even of different classes, the {@link java.util.Date}s,
+ * or the instants, i.e. {@link java.time.Instant}, {@link java.time.OffsetDateTime} and
+ * {@link java.time.ZonedDateTime}, which are compared on the time-line regardless of the offsets and zones.
+ * <br>
+ * The {@code null} values are valid, like the built-in constraints. Combine with {@link Or} or {@link And} to require
+ * them.
+ */
+@Target({ElementType.TYPE, ElementType.CONSTRUCTOR, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = CompareValidator.class)
+@Documented
+@Repeatable(Compare.List.class)
+public @interface Compare {
+
+    String message() default "Field [{left}] must be {operator} field [{right}].";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * The field on the left side of the comparison.
+     *
+     * @return The field's name.
+     */
+    String left();
+
+    /**
+     * The operator comparing the {@link #left()} field with the {@link #right()} field.
+     *
+     * @return The operator.
+     */
+    Operator operator();
+
+    /**
+     * The field on the right side of the comparison.
+     *
+     * @return The field's name.
+     */
+    String right();
+
+    /**
+     * Defines the field accessor implementation.
+     *
+     * @return The implementation class of the field accessor gonna be used.
+     * @see FieldAccessor
+     * @see PojoFieldAccessor#access(Object, String)
+     */
+    Class<? extends FieldAccessor> accessor() default PojoFieldAccessor.class;
+
+    /**
+     * Operator of the comparison.
+     */
+    enum Operator {
+        LT("less than", 0b001),
+        LE("less than or equal to", 0b011),
+        EQ("equal to", 0b010),
+        NE("not equal to", 0b101),
+        GE("greater than or equal to", 0b110),
+        GT("greater than", 0b100);
+
+        private final String description;
+
+        private final int accepted;
+
+        Operator(String description, int accepted) {
+            this.description = description;
+            this.accepted = accepted;
+        }
+
+        /**
+         * The results of the comparison accepted by the operator, as the bits indexed by the signum of the result plus
+         * one, i.e. {@code 0b001} for less, {@code 0b010} for equal and {@code 0b100} for greater.
+         *
+         * @return The bits.
+         */
+        int accepted() {
+            return accepted;
+        }
+
+        /**
+         * @return The description used by the message, e.g. {@code less than}.
+         */
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Defines multiple constraints for the same element.
+     */
+    @Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @interface List {
+        Compare[] value();
+    }
+}
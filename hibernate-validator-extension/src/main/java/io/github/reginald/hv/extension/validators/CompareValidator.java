@@ -0,0 +1,122 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.AccessFailureViolations;
+import io.github.reginald.hv.extension.validators.internal.Comparisons;
+import io.github.reginald.hv.extension.validators.internal.FieldAccess;
+import io.github.reginald.hv.extension.validators.internal.FieldValueMemo;
+import io.github.reginald.hv.extension.validators.internal.ValidationListeners;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator of {@link Compare}, comparing the values of the two fields together.
+ * <br>
+ * The fields are read the same way as the crossing-field validators through {@link FieldAccess}, i.e. through the
+ * generated accessor if any, the values and their prefixes memoized within the {@link ValidationScope}, and the access
+ * failures reported as the constraint violations.
+ * <br>
+ * The comparison is specialized for the classes of the values the first time they're compared, and reused as long as
+ * the following values are of the same classes, see {@link Comparisons}. The {@link Compare#operator()} is resolved
+ * into the accepted results once when being initialized, so that each check is a single comparison and a bit test.
+ * The values NOT comparable with each other are invalid, which {@link ConstraintPaths} reports at startup whenever
+ * the declared types tell.
+ */
+public class CompareValidator implements ConstraintValidator<Compare, Object> {
+
+    private FieldPath left;
+
+    private FieldPath right;
+
+    private FieldAccess fieldAccess;
+
+    private int accepted;
+
+    /**
+     * The latest specialized comparison, replaced as a whole once the classes of the values change.
+     */
+    private Specialization specialization = Specialization.NONE;
+
+    @Override
+    public void initialize(Compare constraintAnnotation) {
+        left = FieldPath.compile(constraintAnnotation.left());
+        right = FieldPath.compile(constraintAnnotation.right());
+        fieldAccess = new FieldAccess(constraintAnnotation.accessor());
+        accepted = constraintAnnotation.operator().accepted();
+    }
+
+    /**
+     * Valid if either value is {@code null}, otherwise compares them. Both fields are always accessed, and the
+     * inaccessible ones fail the validation.
+     *
+     * @param value object to validate
+     * @param context context in which the constraint is evaluated
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isValid(Object value, ConstraintValidatorContext context) {
+        final var listener = ValidationListeners.listener();
+        if (listener == null) {
+            return evaluate(value, context, null);
+        }
+        var start = System.nanoTime();
+        var valid = evaluate(value, context, listener);
+        listener.onValidated(Compare.class, classOf(value), valid, System.nanoTime() - start);
+        return valid;
+    }
+
+    private boolean evaluate(Object value, ConstraintValidatorContext context, ValidationListener listener) {
+        var accessor = fieldAccess.resolveAccessor(classOf(value));
+        var memo = FieldValueMemo.current();
+        var leftValue = fieldAccess.access(memo, value, left, accessor);
+        var rightValue = fieldAccess.access(memo, value, right, accessor);
+        var leftFailed = isAccessFailed(leftValue, value, left, context, listener);
+        var rightFailed = isAccessFailed(rightValue, value, right, context, listener);
+        if (leftFailed || rightFailed) {
+            return false;
+        }
+        if (leftValue == null || rightValue == null) {
+            return true;
+        }
+        var specialization = this.specialization;
+        if (specialization.left != leftValue.getClass() || specialization.right != rightValue.getClass()) {
+            specialization = new Specialization(leftValue.getClass(), rightValue.getClass(), Comparisons.of(leftValue.getClass(), rightValue.getClass()));
+            this.specialization = specialization;
+        }
+        if (specialization.comparison == null) {
+            if (context != null) {
+                // The default message of the operator is misleading here.
+                context.disableDefaultConstraintViolation();
+                context.buildConstraintViolationWithTemplate("Field [" + left.path() + "] of " + specialization.left.getName()
+                        + " can NOT be compared with field [" + right.path() + "] of " + specialization.right.getName() + ".")
+                        .addConstraintViolation();
+            }
+            return false;
+        }
+        return (accepted >> (Integer.signum(specialization.comparison.compare(leftValue, rightValue)) + 1) & 1) != 0;
+    }
+
+    private static boolean isAccessFailed(Object fieldValue, Object value, FieldPath path, ConstraintValidatorContext context, ValidationListener listener) {
+        if (!(fieldValue instanceof FieldAccessor.AccessFailure failure)) {
+            return false;
+        }
+        if (listener != null) {
+            listener.onAccessFailed(Compare.class, classOf(value), path.path(), failure.cause());
+        }
+        if (context != null) {
+            AccessFailureViolations.build(path.path(), context, failure.cause());
+        }
+        return true;
+    }
+
+    private static Class<?> classOf(Object value) {
+        return value == null ? null : value.getClass();
+    }
+
+    /**
+     * @param comparison The comparison, or {@code null} if the values of the classes are NOT comparable.
+     */
+    private record Specialization(Class<?> left, Class<?> right, Comparisons.Comparison comparison) {
+
+        private static final Specialization NONE = new Specialization(null, null, null);
+    }
+}
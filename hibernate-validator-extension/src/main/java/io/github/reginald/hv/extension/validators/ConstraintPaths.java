@@ -0,0 +1,224 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.Comparisons;
+import io.github.reginald.hv.extension.validators.internal.FieldComponentRegistry;
+import io.github.reginald.hv.extension.validators.internal.GeneratedFieldAccessors;
+import jakarta.validation.ConstraintDeclarationException;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the field paths of the crossing-field constraints, e.g. {@link Or} and {@link And}, against the declared types
+ * at startup, instead of finding the misconfigured paths only when they're validated.
+ * <pre>{@code
+ * ConstraintPaths.check(CreateUserRequest.class, UpdateUserRequest.class);
+ * }</pre>
+ * Each path is resolved segment by segment from the validated class, through the declared types of the fields, the
+ * element types of the lists and arrays, and the components of the records. The ways of reading the resolved fields
+ * are cached as accessing them does, so the first validations don't resolve them either.
+ * <br>
+ * Only the paths of the {@link PojoFieldAccessor} and its subclasses could be checked. The rest of the path is
+ * skipped once its type is only known at runtime, i.e. {@link Object}, any interface or abstract class, a {@link Map},
+ * or the raw JSON of the {@link JsonFieldAccessor}.
+ * <br>
+ * The fields compared by {@link Compare} are checked as well, including whether their declared types are comparable
+ * with each other, as long as neither type could be subclassed.
+ */
+public final class ConstraintPaths {
+
+    private ConstraintPaths() {
+    }
+
+    /**
+     * Checks all the crossing-field constraints declared on the classes and their superclasses.
+     *
+     * @param types The validated classes.
+     * @throws ConstraintDeclarationException Throws if any path couldn't be resolved, or any constraint couldn't be
+     * initialized, reporting all of them together.
+     */
+    public static void check(Class<?>... types) {
+        var errors = new ArrayList<String>();
+        for (var type : types) {
+            check(type, errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new ConstraintDeclarationException(errors.size() + " invalid crossing-field constraint(s):\n" + String.join("\n", errors));
+        }
+    }
+
+    /**
+     * Checks the crossing-field constraints declared on the class and its superclasses.
+     *
+     * @param type The validated class.
+     * @param errors The errors found, to be appended.
+     * @return The count of the constraints checked.
+     */
+    static int check(Class<?> type, List<String> errors) {
+        GeneratedFieldAccessors.find(type);
+        var constraints = new ArrayList<>(CrossingFieldsConstraints.of(type));
+        constraints.addAll(CrossingFieldsConstraints.of(type, CompareValidator.class));
+        for (var constraint : constraints) {
+            check(type, constraint, errors);
+        }
+        return constraints.size();
+    }
+
+    private static void check(Class<?> type, Annotation constraint, List<String> errors) {
+        var compare = constraint instanceof Compare c ? c : null;
+        var fields = compare != null
+                ? new String[]{compare.left(), compare.right()}
+                : (String[]) attribute(constraint, "fields");
+        var accessorType = (Class<?>) attribute(constraint, "accessor");
+        var declaration = "@" + constraint.annotationType().getSimpleName() + (fields == null ? "" : Arrays.toString(fields)) + " on " + type.getName();
+        try {
+            if (compare != null) {
+                new CompareValidator().initialize(compare);
+            } else {
+                CrossingFieldsConstraints.initialize(constraint);
+            }
+        } catch (IllegalArgumentException | ConstraintDeclarationException e) {
+            errors.add(declaration + ": " + e.getMessage());
+            return;
+        }
+        if (fields == null || accessorType == null || !PojoFieldAccessor.class.isAssignableFrom(accessorType)) {
+            return;
+        }
+        var pojoAccessorType = accessorType.asSubclass(PojoFieldAccessor.class);
+        var accessor = FieldComponentRegistry.isShareable(pojoAccessorType)
+                ? FieldComponentRegistry.shared(pojoAccessorType)
+                : FieldComponentRegistry.create(pojoAccessorType);
+        var resolvedTypes = new Type[fields.length];
+        for (var i = 0; i < fields.length; i++) {
+            var resolution = resolve(type, FieldPath.compile(fields[i]), accessor);
+            if (resolution.error() != null) {
+                errors.add(declaration + ": " + resolution.error());
+            }
+            resolvedTypes[i] = resolution.type();
+        }
+        if (compare != null && resolvedTypes[0] != null && resolvedTypes[1] != null) {
+            var error = checkComparable(fields, rawClass(resolvedTypes[0]), rawClass(resolvedTypes[1]));
+            if (error != null) {
+                errors.add(declaration + ": " + error);
+            }
+        }
+    }
+
+    /**
+     * Checks the declared types of the compared fields, if neither could be subclassed, since the values of the
+     * subclasses might be comparable otherwise.
+     *
+     * @return The error, or {@code null} if comparable or couldn't be told.
+     */
+    private static String checkComparable(String[] fields, Class<?> left, Class<?> right) {
+        left = boxed(left);
+        right = boxed(right);
+        if (!Modifier.isFinal(left.getModifiers()) || !Modifier.isFinal(right.getModifiers()) || Comparisons.of(left, right) != null) {
+            return null;
+        }
+        return "Field [" + fields[0] + "] of " + left.getName() + " can NOT be compared with field [" + fields[1] + "] of " + right.getName() + ".";
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static Object attribute(Annotation constraint, String name) {
+        try {
+            return constraint.annotationType().getMethod(name).invoke(constraint);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Can NOT read " + name + " of " + constraint + ".", e);
+        }
+    }
+
+    /**
+     * @return The error if the path couldn't be resolved, or the declared type of the field, which is {@code null} if
+     * the path couldn't be checked further.
+     */
+    private static Resolution resolve(Class<?> type, FieldPath path, PojoFieldAccessor accessor) {
+        Type current = type;
+        for (var i = 0; i < path.length(); i++) {
+            var raw = rawClass(current);
+            if (isRawJson(raw, accessor)) {
+                return Resolution.UNKNOWN;
+            }
+            if (path.isIndex(i)) {
+                if (raw.isArray()) {
+                    current = current instanceof GenericArrayType array ? array.getGenericComponentType() : raw.getComponentType();
+                    continue;
+                }
+                if (List.class.isAssignableFrom(raw)) {
+                    current = current instanceof ParameterizedType list && list.getActualTypeArguments().length == 1
+                            ? list.getActualTypeArguments()[0]
+                            : Object.class;
+                    continue;
+                }
+                if (isOpaque(raw)) {
+                    return Resolution.UNKNOWN;
+                }
+                return Resolution.error("Field [" + path.prefix(i + 1) + "] indexes neither a list nor an array.");
+            }
+            if (Map.class.isAssignableFrom(raw) || (i > 0 && isOpaque(raw))) {
+                return Resolution.UNKNOWN;
+            }
+            try {
+                current = accessor.prepare(raw, path.segment(i));
+            } catch (NoSuchFieldException e) {
+                return Resolution.error("Field [" + path.prefix(i + 1) + "] doesn't exist.");
+            } catch (NoSuchMethodException e) {
+                return Resolution.error("Field [" + path.prefix(i + 1) + "] getter method doesn't exist.");
+            }
+        }
+        return new Resolution(null, current);
+    }
+
+    private static boolean isOpaque(Class<?> raw) {
+        return raw == Object.class || raw.isInterface() || (Modifier.isAbstract(raw.getModifiers()) && !raw.isArray() && !raw.isPrimitive());
+    }
+
+    private static boolean isRawJson(Class<?> raw, PojoFieldAccessor accessor) {
+        return accessor instanceof JsonFieldAccessor && (raw == JsonDocument.class || raw == byte[].class || ByteBuffer.class.isAssignableFrom(raw));
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> c) {
+            return c;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return rawClass(parameterized.getRawType());
+        }
+        if (type instanceof GenericArrayType array) {
+            return rawClass(array.getGenericComponentType()).arrayType();
+        }
+        if (type instanceof TypeVariable<?> variable) {
+            return rawClass(variable.getBounds()[0]);
+        }
+        if (type instanceof WildcardType wildcard) {
+            return rawClass(wildcard.getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private record Resolution(String error, Type type) {
+
+        private static final Resolution UNKNOWN = new Resolution(null, null);
+
+        private static Resolution error(String error) {
+            return new Resolution(error, null);
+        }
+    }
+}
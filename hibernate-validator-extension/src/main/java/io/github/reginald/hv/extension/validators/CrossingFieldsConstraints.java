@@ -0,0 +1,102 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
+import jakarta.validation.Constraint;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolution of the crossing-field constraints declared on the classes, i.e. the constraints validated by any
+ * {@link CrossingFieldsValidator}, including the repeated ones within the containers like {@link Or.List}. The other
+ * constraints reading the fields, e.g. {@link Compare}, are resolved by their validator classes the same way.
+ */
+final class CrossingFieldsConstraints {
+
+    private CrossingFieldsConstraints() {
+    }
+
+    /**
+     * Collects the crossing-field constraints declared on the class and its superclasses.
+     *
+     * @param type The class.
+     * @return The constraints, from the class to its superclasses.
+     * @throws IllegalArgumentException Throws if any container of the constraints can NOT be read.
+     */
+    static List<Annotation> of(Class<?> type) {
+        return of(type, CrossingFieldsValidator.class);
+    }
+
+    /**
+     * Collects the constraints validated by the specific validators declared on the class and its superclasses.
+     *
+     * @param type The class.
+     * @param validatorType The class of the validators, e.g. {@link CompareValidator}.
+     * @return The constraints, from the class to its superclasses.
+     * @throws IllegalArgumentException Throws if any container of the constraints can NOT be read.
+     */
+    static List<Annotation> of(Class<?> type, Class<?> validatorType) {
+        var constraints = new ArrayList<Annotation>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (var annotation : c.getDeclaredAnnotations()) {
+                collect(annotation, validatorType, constraints);
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+    private static void collect(Annotation annotation, Class<?> validatorType, List<Annotation> constraints) {
+        if (validatorOf(annotation.annotationType(), validatorType) != null) {
+            constraints.add(annotation);
+            return;
+        }
+        // The container of the repeated constraints, e.g. Or.List.
+        try {
+            var value = annotation.annotationType().getMethod("value");
+            if (value.getReturnType().isArray() && value.getReturnType().getComponentType().isAnnotation()) {
+                for (var element : (Annotation[]) value.invoke(annotation)) {
+                    collect(element, validatorType, constraints);
+                }
+            }
+        } catch (NoSuchMethodException e) {
+            // Not a container.
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Can NOT read the constraints of " + annotation + ".", e);
+        }
+    }
+
+    private static Class<?> validatorOf(Class<? extends Annotation> annotationType, Class<?> validatorType) {
+        var constraint = annotationType.getAnnotation(Constraint.class);
+        if (constraint == null) {
+            return null;
+        }
+        for (var validatedBy : constraint.validatedBy()) {
+            if (validatorType.isAssignableFrom(validatedBy)) {
+                return validatedBy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Instantiates and initializes the validator of the constraint.
+     *
+     * @param constraint The crossing-field constraint.
+     * @param <A> The type of the constraint.
+     * @return The initialized validator.
+     * @throws IllegalArgumentException Throws if the validator can NOT be initialized.
+     */
+    @SuppressWarnings("unchecked")
+    static <A extends Annotation> CrossingFieldsValidator<A> initialize(A constraint) {
+        var validatorClass = validatorOf(constraint.annotationType(), CrossingFieldsValidator.class);
+        try {
+            var validator = (CrossingFieldsValidator<A>) validatorClass.getDeclaredConstructor().newInstance();
+            validator.initialize(constraint);
+            return validator;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("Validator " + validatorClass.getName() + " can NOT be initialized with no argument.", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.ValidationListeners;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * Base validator for validating the <i>Enum-Like</i> value, i.e. value which only be valid within the group of several
+ * constants.
+ * <br>
+ * The registered {@link ValidationListener}s, looked up on each evaluation, are notified of the evaluations.
+ *
+ * @param <A> The validation annotation type.
+ * @param <T> The validating type.
+ */
+public abstract class EnumValueValidator<A extends Annotation, T> implements ConstraintValidator<A, T> {
+
+    private Class<? extends Annotation> constraintType;
+
+    /**
+     * Records the constraint type for the {@link ValidationListener}. Subclasses should call this method in their own
+     * initialization.
+     *
+     * @param constraintAnnotation annotation instance for a given constraint declaration
+     */
+    @Override
+    public void initialize(A constraintAnnotation) {
+        constraintType = constraintAnnotation.annotationType();
+    }
+
+    @Override
+    public boolean isValid(T value, ConstraintValidatorContext context) {
+        final var listener = ValidationListeners.listener();
+        if (listener == null) {
+            return evaluate(value);
+        }
+        var start = System.nanoTime();
+        var valid = evaluate(value);
+        listener.onValidated(constraintType, value == null ? null : value.getClass(), valid, System.nanoTime() - start);
+        return valid;
+    }
+
+    private boolean evaluate(T value) {
+        return value == null ? allowEmpty() : contains(value);
+    }
+
+    /**
+     * Determines whether the non-null value is one of the valid constants.
+     * <br>
+     * The default implementation scans the {@link #range()} linearly. Subclasses should override it with the lookup
+     * structure built once when being initialized.
+     *
+     * @param value The validating value, never {@code null}.
+     * @return {@code true} if the value is valid.
+     */
+    protected boolean contains(T value) {
+        return Arrays.asList(range()).contains(value);
+    }
+
+    /**
+     * Defines whether the value is allowed to be {@code null}.
+     *
+     * @return {@code true} for allowing the value being null.
+     */
+    protected abstract boolean allowEmpty();
+
+    /**
+     * Defines the group of valid constants.
+     *
+     * @return The valid constants.
+     */
+    protected abstract T[] range();
+}
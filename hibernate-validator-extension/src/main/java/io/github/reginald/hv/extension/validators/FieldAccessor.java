@@ -0,0 +1,154 @@
+package io.github.reginald.hv.extension.validators;
+
+/**
+ * Accessor of any field of any target object.
+ * <br>
+ * Generally be used by the validation annotations and the related validators. The implementations should provide the proper
+ * ways to access the value of the field of the specific object.
+ * <br>
+ * <b>
+ *     Notice: All the implementations should provide a constructor with no arguments, unless the instances are provided
+ *     by {@link FieldComponentProvider}.
+ * </b>
+ * <br>
+ * The instance of each implementation is shared across all validations and threads, unless the implementation is
+ * annotated with {@link NotThreadSafe}.
+ */
+public interface FieldAccessor {
+
+    /**
+     * Accesses the specific field of the target object.
+     *
+     * @param bean The target object contains the field requires to be accessing.
+     * @param field The field to be accessing.
+     * @return The value of the field within the {@code bean}
+     * @throws AccessFieldException Throws when unable to access the field.
+     */
+    FieldTuple access(Object bean, String field) throws AccessFieldException;
+
+    /**
+     * Accesses the specific field of the target object by the pre-compiled path.
+     * <br>
+     * The validators compile the paths of the fields once when being initialized and access the fields by this method.
+     * The default implementation accesses the field by the original path with {@link #access(Object, String)}.
+     *
+     * @param bean The target object contains the field requires to be accessing.
+     * @param path The compiled path of the field to be accessing.
+     * @return The value of the field within the {@code bean}
+     * @throws AccessFieldException Throws when unable to access the field.
+     */
+    default FieldTuple access(Object bean, FieldPath path) throws AccessFieldException {
+        return access(bean, path.path());
+    }
+
+    /**
+     * Accesses the value of the specific field of the target object by the pre-compiled path, without wrapping it into
+     * the {@link FieldTuple}.
+     * <br>
+     * The validators access the fields by this method, so the implementations on the hot path should override it
+     * without allocation. The default implementation unwraps the result of {@link #access(Object, FieldPath)}.
+     *
+     * @param bean The target object contains the field requires to be accessing.
+     * @param path The compiled path of the field to be accessing.
+     * @return The value of the field within the {@code bean}
+     * @throws AccessFieldException Throws when unable to access the field.
+     */
+    default Object accessValue(Object bean, FieldPath path) throws AccessFieldException {
+        return access(bean, path).value();
+    }
+
+    /**
+     * Accesses the value of the specific field of the target object by the pre-compiled path, returning the failure
+     * instead of throwing it.
+     * <br>
+     * The validators access the fields by this method, so that the fields which legitimately don't exist on some
+     * classes, e.g. the subtypes of a polymorphic payload, are reported without any exception being created or thrown.
+     * The default implementation catches the {@link AccessFieldException} of {@link #accessValue(Object, FieldPath)}, so
+     * the implementations failing on the hot path should override it.
+     *
+     * @param bean The target object contains the field requires to be accessing.
+     * @param path The compiled path of the field to be accessing.
+     * @return The value of the field within the {@code bean}, or the {@link AccessFailure} if unable to access the field.
+     */
+    default Object accessValueOrFailure(Object bean, FieldPath path) {
+        try {
+            return accessValue(bean, path);
+        } catch (AccessFieldException e) {
+            return new AccessFailure(e.getCause());
+        }
+    }
+
+    /**
+     * Determines whether accessing a path is the same as accessing its segments one by one, each on the value of the
+     * previous segment, e.g. accessing {@code c} on the value of {@code a.b} is the same as accessing {@code a.b.c}.
+     * <br>
+     * Within a {@link ValidationScope}, the values of the shared path prefixes are reused across the constraints only if
+     * the accessor is composable. Not composable by default.
+     *
+     * @return {@code true} if composable.
+     */
+    default boolean isComposable() {
+        return false;
+    }
+
+    /**
+     * Resolves the path against the class of the target objects without reading any value, so that the validators
+     * stopping as soon as the result is decided still fail on the fields which could never be accessed, e.g. the
+     * misspelled ones. Tells nothing by default.
+     *
+     * @param type The class of the target objects.
+     * @param path The compiled path of the field.
+     * @return The failure if the path could never be accessed on the objects of the class, or {@code null} if it could,
+     * or it couldn't be told without reading the values.
+     */
+    default AccessFailure resolve(Class<?> type, FieldPath path) {
+        return null;
+    }
+
+    /**
+     * Wrapper for the actual {@link Exception} causing the failure of accessing the field.
+     */
+    class AccessFieldException extends Exception {
+
+        public AccessFieldException() {
+            super();
+        }
+
+        public AccessFieldException(String message) {
+            super(message);
+        }
+
+        public AccessFieldException(String message, Throwable cause) {
+            super(message, cause);
+        }
+
+        public AccessFieldException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Failure of accessing the field, returned by {@link #accessValueOrFailure(Object, FieldPath)} rather than thrown.
+     * <br>
+     * Unlike the {@link AccessFieldException}, it captures no stack trace, and the failures known ahead, e.g. the field
+     * missing from the class, could be created once and returned again and again with the stackless cause.
+     *
+     * @param cause The specific exception causing the failure of the accessing, the same as the cause of the
+     *              {@link AccessFieldException}.
+     */
+    record AccessFailure(Throwable cause) {
+
+        /**
+         * Wraps the failure into the exception, for the callers of {@link #accessValue(Object, FieldPath)}.
+         *
+         * @param path The compiled path of the field failed to be accessed.
+         * @return The exception.
+         */
+        public AccessFieldException toException(FieldPath path) {
+            return new AccessFieldException("Try to access field " + path.path() + " failed.", cause);
+        }
+    }
+
+    record FieldTuple(String field, Object value) {
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.FieldComponentRegistry;
+
+import java.util.ServiceLoader;
+
+/**
+ * SPI providing the instances of {@link FieldAccessor} and {@link FieldVerifier}, e.g. the preconfigured or stateful
+ * beans managed by a DI container, instead of instantiating them by the constructor with no arguments.
+ * <br>
+ * The providers are discovered by {@link ServiceLoader}, or registered by {@link #register(FieldComponentProvider)}.
+ * The instance provided for the implementation which is NOT annotated with {@link NotThreadSafe} is requested only once
+ * and shared across all validations, so register the providers before validating. The validators initialized before
+ * the registration keep the instances they have resolved.
+ */
+public interface FieldComponentProvider {
+
+    /**
+     * Provides the instance of the specific implementation.
+     *
+     * @param type The implementation class of the {@link FieldAccessor} or {@link FieldVerifier}.
+     * @param <T> The implementation type.
+     * @return The instance, or {@code null} if this provider doesn't provide the type, in which case the next provider
+     * is consulted, and finally the instance is created by the constructor with no arguments.
+     */
+    <T> T provide(Class<T> type);
+
+    /**
+     * Registers the provider programmatically. The provider registered later takes precedence.
+     *
+     * @param provider The provider.
+     */
+    static void register(FieldComponentProvider provider) {
+        FieldComponentRegistry.register(provider);
+    }
+
+    /**
+     * Unregisters the provider registered by {@link #register(FieldComponentProvider)}. Like the registration, the
+     * validators initialized before keep the instances they have resolved.
+     *
+     * @param provider The provider.
+     * @return {@code true} if the provider was registered.
+     */
+    static boolean unregister(FieldComponentProvider provider) {
+        return FieldComponentRegistry.unregister(provider);
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.util.ArrayList;
+
+/**
+ * Pre-parsed path of a field, including the nested field like {@code inner.b} and the element of the list like
+ * {@code items[3].sku}.
+ * <br>
+ * The path is split into the segments only once when compiling, so that the {@link FieldAccessor} could traverse the
+ * segments without parsing the path on every access. Instances are immutable and could be shared freely.
+ */
+public final class FieldPath {
+
+    private static final int NOT_INDEX = -1;
+
+    private final String path;
+
+    private final String[] segments;
+
+    private final int[] indices;
+
+    private final String[] prefixes;
+
+    private final FieldPath[] steps;
+
+    private FieldPath(String path, String[] segments, int[] indices, String[] prefixes) {
+        this.path = path;
+        this.segments = segments;
+        this.indices = indices;
+        this.prefixes = prefixes;
+        this.steps = new FieldPath[segments.length];
+        if (segments.length == 1) {
+            steps[0] = this;
+        } else {
+            for (var i = 0; i < segments.length; i++) {
+                steps[i] = new FieldPath(segments[i], new String[]{segments[i]}, new int[]{indices[i]}, new String[]{segments[i]});
+            }
+        }
+    }
+
+    /**
+     * Compiles the dotted path of the field.
+     * <br>
+     * Each dotted part is a field name, optionally followed by the indices of the elements, e.g. {@code items[3]} refers
+     * to the 4th element of the list or array {@code items}, and {@code [0]} refers to the 1st element of the validating
+     * list itself.
+     *
+     * @param path The path of the field, e.g. {@code a}, {@code inner.b} or {@code items[3].sku}.
+     * @return The compiled path.
+     * @throws IllegalArgumentException Throws if any segment of the path is empty, or any index is malformed.
+     */
+    public static FieldPath compile(String path) {
+        var segments = new ArrayList<String>();
+        var indices = new ArrayList<Integer>();
+        var prefixes = new ArrayList<String>();
+        var offset = 0;
+        for (var part : path.split("\\.", -1)) {
+            var bracket = part.indexOf('[');
+            var name = bracket < 0 ? part : part.substring(0, bracket);
+            // Only the root could be indexed without the name.
+            if (name.isEmpty() && (bracket != 0 || !segments.isEmpty())) {
+                throw new IllegalArgumentException("Empty field name is NOT allowed.");
+            }
+            if (!name.isEmpty()) {
+                // Interned like the reflected member names, so that looking them up matches by identity.
+                segments.add(name.intern());
+                indices.add(NOT_INDEX);
+                prefixes.add(path.substring(0, offset + name.length()));
+            }
+            while (bracket >= 0) {
+                var closing = part.indexOf(']', bracket);
+                var index = closing < 0 ? NOT_INDEX : parseIndex(part, bracket + 1, closing);
+                if (index == NOT_INDEX || (closing + 1 < part.length() && part.charAt(closing + 1) != '[')) {
+                    throw new IllegalArgumentException("Malformed index in field path " + path + ".");
+                }
+                segments.add(part.substring(bracket, closing + 1));
+                indices.add(index);
+                prefixes.add(path.substring(0, offset + closing + 1));
+                bracket = closing + 1 < part.length() ? closing + 1 : -1;
+            }
+            offset += part.length() + 1;
+        }
+        return new FieldPath(path, segments.toArray(String[]::new), indices.stream().mapToInt(Integer::intValue).toArray(),
+                prefixes.toArray(String[]::new));
+    }
+
+    private static int parseIndex(String part, int from, int to) {
+        if (from == to || to - from > 9) {
+            return NOT_INDEX;
+        }
+        var index = 0;
+        for (var i = from; i < to; i++) {
+            var c = part.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_INDEX;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Compiles the dotted paths of the fields.
+     *
+     * @param paths The paths of the fields.
+     * @return The compiled paths, in the same order.
+     * @throws IllegalArgumentException Throws if any segment of any path is empty.
+     * @see #compile(String)
+     */
+    public static FieldPath[] compile(String[] paths) {
+        var compiled = new FieldPath[paths.length];
+        for (var i = 0; i < paths.length; i++) {
+            compiled[i] = compile(paths[i]);
+        }
+        return compiled;
+    }
+
+    /**
+     * @return The original dotted path.
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * @return The count of the segments. Always positive.
+     */
+    public int length() {
+        return segments.length;
+    }
+
+    /**
+     * Provides the segment at the specific position.
+     *
+     * @param index The position of the segment, starting from {@code 0} for the root field.
+     * @return The name of the field at the position, or the bracketed index like {@code [3]} if it's an
+     * {@link #isIndex(int) index}.
+     */
+    public String segment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Determines whether the segment at the specific position refers to the element of a list or an array.
+     *
+     * @param index The position of the segment.
+     * @return {@code true} if the segment is an index.
+     */
+    public boolean isIndex(int index) {
+        return indices[index] != NOT_INDEX;
+    }
+
+    /**
+     * Provides the element index of the segment at the specific position.
+     *
+     * @param index The position of the segment, which should be an {@link #isIndex(int) index}.
+     * @return The non-negative element index, or {@code -1} if the segment is a field name.
+     */
+    public int index(int index) {
+        return indices[index];
+    }
+
+    /**
+     * Provides the original path of the leading segments, e.g. {@code items[3]} is the prefix of length {@code 2} of
+     * {@code items[3].sku}.
+     *
+     * @param length The count of the leading segments, from {@code 1} to {@link #length()}.
+     * @return The path of the prefix, which is the same as {@link #path()} if the length is {@link #length()}.
+     */
+    public String prefix(int length) {
+        return prefixes[length - 1];
+    }
+
+    /**
+     * Provides the path of the single segment at the specific position, for accessing the segment on the value of the
+     * previous one.
+     *
+     * @param index The position of the segment.
+     * @return The compiled path of the single segment, e.g. {@code [3]} for the index segment.
+     */
+    public FieldPath step(int index) {
+        return steps[index];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof FieldPath other && path.equals(other.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -4,8 +4,12 @@ package io.github.reginald.hv.extension.validators;
  * Verifier for determining whether the field value is valid.
  * <br>
  * <b>
- *     Notice: All the implementations should provide a constructor with no arguments.
+ *     Notice: All the implementations should provide a constructor with no arguments, unless the instances are provided
+ *     by {@link FieldComponentProvider}.
  * </b>
+ * <br>
+ * The instance of each implementation is shared across all validations and threads, unless the implementation is
+ * annotated with {@link NotThreadSafe}.
  */
 public interface FieldVerifier {
 
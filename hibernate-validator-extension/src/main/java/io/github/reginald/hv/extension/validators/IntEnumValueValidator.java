@@ -1,5 +1,7 @@
 package io.github.reginald.hv.extension.validators;
 
+import io.github.reginald.hv.extension.validators.internal.IntValueSet;
+
 import java.util.Arrays;
 
 public class IntEnumValueValidator extends EnumValueValidator<IntEnumValue, Integer> {
@@ -8,10 +10,14 @@ public class IntEnumValueValidator extends EnumValueValidator<IntEnumValue, Inte
 
     private int[] range;
 
+    private IntValueSet values;
+
     @Override
     public void initialize(IntEnumValue constraintAnnotation) {
+        super.initialize(constraintAnnotation);
         allowEmpty = constraintAnnotation.allowEmpty();
         range = constraintAnnotation.value();
+        values = IntValueSet.of(range);
     }
 
     @Override
@@ -19,6 +25,21 @@ public class IntEnumValueValidator extends EnumValueValidator<IntEnumValue, Inte
         return allowEmpty;
     }
 
+    @Override
+    protected boolean contains(Integer value) {
+        return contains(value.intValue());
+    }
+
+    /**
+     * Determines whether the value is one of the valid constants, without boxing.
+     *
+     * @param value The validating value.
+     * @return {@code true} if the value is valid.
+     */
+    public boolean contains(int value) {
+        return values.contains(value);
+    }
+
     @Override
     protected Integer[] range() {
         return Arrays.stream(range).boxed().toArray(Integer[]::new);
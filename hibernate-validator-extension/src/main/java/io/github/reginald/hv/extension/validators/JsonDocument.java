@@ -0,0 +1,441 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoded JSON document read in place, without binding it to any object and without copying the bytes.
+ * <br>
+ * The document is scanned lazily, only as far as the requested paths, and the skipped subtrees are never materialized.
+ * The offsets of the resolved members and elements are cached in the document, so that several constraints on the same
+ * document don't rescan the shared prefixes of their paths. The values are materialized only at the end of the paths:
+ * <ul>
+ *     <li>The string as {@link String}.</li>
+ *     <li>The integer within {@code long} as {@link Long}, and any other number as {@link BigDecimal}.</li>
+ *     <li>{@code true} or {@code false} as {@link Boolean}.</li>
+ *     <li>The object or array as {@link Node}, which is still read in place.</li>
+ *     <li>{@code null} as {@code null}, the same as the absent member.</li>
+ * </ul>
+ * The document is assumed well-formed only as far as it's scanned, the malformed part is reported by
+ * {@link IllegalStateException} when it's reached.
+ * <br>
+ * Instances are NOT thread-safe, since the cache is updated while reading. The document is meant to be validated by
+ * a single thread, e.g. per request.
+ *
+ * @see JsonFieldAccessor
+ */
+public final class JsonDocument {
+
+    private static final int NOT_FOUND = -1;
+
+    private final ByteBuffer bytes;
+
+    private final int limit;
+
+    private int root = NOT_FOUND;
+
+    private int[] cachedParents = new int[16];
+
+    private String[] cachedSegments = new String[16];
+
+    private int[] cachedOffsets = new int[16];
+
+    private int cached;
+
+    private JsonDocument(ByteBuffer bytes) {
+        this.bytes = bytes;
+        this.limit = bytes.limit();
+    }
+
+    /**
+     * Reads the document in place.
+     *
+     * @param json The UTF-8 encoded JSON, which should NOT be modified afterward.
+     * @return The document.
+     */
+    public static JsonDocument of(byte[] json) {
+        return new JsonDocument(ByteBuffer.wrap(json));
+    }
+
+    /**
+     * Reads the document in place, from the position to the limit of the buffer. The position of the buffer is NOT
+     * changed.
+     *
+     * @param json The UTF-8 encoded JSON, which should NOT be modified afterward.
+     * @return The document.
+     */
+    public static JsonDocument of(ByteBuffer json) {
+        return new JsonDocument(json.slice());
+    }
+
+    /**
+     * Object or array within the document, which is read in place.
+     */
+    public final class Node {
+
+        private final int offset;
+
+        private Node(int offset) {
+            this.offset = offset;
+        }
+
+        /**
+         * @return {@code true} if it's an array, otherwise it's an object.
+         */
+        public boolean isArray() {
+            return bytes.get(offset) == '[';
+        }
+
+        /**
+         * @return {@code true} if the object or array has no member or element.
+         */
+        public boolean isEmpty() {
+            var end = skipWhitespace(offset + 1);
+            return bytes.get(end) == '}' || bytes.get(end) == ']';
+        }
+
+        /**
+         * @return The raw JSON text of the object or array.
+         */
+        @Override
+        public String toString() {
+            return text(offset, skipValue(offset));
+        }
+    }
+
+    /**
+     * Resolves the value at the path.
+     *
+     * @param path The path, which could contain the indices of the array elements.
+     * @return The value, or {@code null} if the value or any intermediate value is {@code null} or absent.
+     * @throws NoSuchFieldException Throws if any intermediate value is neither an object nor an array, or doesn't match
+     * the segment, e.g. indexing an object.
+     * @throws IllegalStateException Throws if the scanned part of the document is malformed.
+     */
+    public Object value(FieldPath path) throws NoSuchFieldException {
+        return value(path, 0);
+    }
+
+    Object value(FieldPath path, int from) throws NoSuchFieldException {
+        try {
+            if (root == NOT_FOUND) {
+                root = skipWhitespace(0);
+            }
+            var offset = root;
+            for (var i = from; i < path.length(); i++) {
+                var b = bytes.get(offset);
+                if (b == 'n') {
+                    return null;
+                }
+                if (path.isIndex(i) ? b != '[' : b != '{') {
+                    throw new NoSuchFieldException("Field " + path.segment(i) + " does NOT exist in " + kind(b) + ".");
+                }
+                offset = child(offset, path, i);
+                if (offset == NOT_FOUND) {
+                    return null;
+                }
+            }
+            return materialize(offset);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Unexpected end of JSON.", e);
+        }
+    }
+
+    private int child(int parent, FieldPath path, int i) {
+        var segment = path.segment(i);
+        var mask = cachedSegments.length - 1;
+        var slot = (parent * 31 + segment.hashCode()) & mask;
+        for (String candidate; (candidate = cachedSegments[slot]) != null; slot = (slot + 1) & mask) {
+            if (cachedParents[slot] == parent && (candidate == segment || candidate.equals(segment))) {
+                return cachedOffsets[slot];
+            }
+        }
+        var offset = path.isIndex(i) ? findElement(parent, path.index(i)) : findMember(parent, segment);
+        cachedParents[slot] = parent;
+        cachedSegments[slot] = segment;
+        cachedOffsets[slot] = offset;
+        if (++cached * 2 > cachedSegments.length) {
+            growCache();
+        }
+        return offset;
+    }
+
+    private void growCache() {
+        var parents = cachedParents;
+        var segments = cachedSegments;
+        var offsets = cachedOffsets;
+        cachedParents = new int[parents.length * 2];
+        cachedSegments = new String[segments.length * 2];
+        cachedOffsets = new int[offsets.length * 2];
+        var mask = cachedSegments.length - 1;
+        for (var i = 0; i < segments.length; i++) {
+            if (segments[i] != null) {
+                var slot = (parents[i] * 31 + segments[i].hashCode()) & mask;
+                while (cachedSegments[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                cachedParents[slot] = parents[i];
+                cachedSegments[slot] = segments[i];
+                cachedOffsets[slot] = offsets[i];
+            }
+        }
+    }
+
+    private int findMember(int object, String key) {
+        var offset = skipWhitespace(object + 1);
+        if (bytes.get(offset) == '}') {
+            return NOT_FOUND;
+        }
+        while (true) {
+            expect(offset, '"');
+            var matched = keyEquals(offset, key);
+            offset = skipWhitespace(skipString(offset));
+            expect(offset, ':');
+            offset = skipWhitespace(offset + 1);
+            if (matched) {
+                return offset;
+            }
+            offset = skipWhitespace(skipValue(offset));
+            if (bytes.get(offset) == '}') {
+                return NOT_FOUND;
+            }
+            expect(offset, ',');
+            offset = skipWhitespace(offset + 1);
+        }
+    }
+
+    private int findElement(int array, int index) {
+        var offset = skipWhitespace(array + 1);
+        if (bytes.get(offset) == ']') {
+            return NOT_FOUND;
+        }
+        for (var i = 0; i < index; i++) {
+            offset = skipWhitespace(skipValue(offset));
+            if (bytes.get(offset) == ']') {
+                return NOT_FOUND;
+            }
+            expect(offset, ',');
+            offset = skipWhitespace(offset + 1);
+        }
+        return offset;
+    }
+
+    private boolean keyEquals(int offset, String key) {
+        var length = key.length();
+        var i = offset + 1;
+        for (var k = 0; k < length; k++, i++) {
+            var b = bytes.get(i);
+            if (b == '"') {
+                return false;
+            }
+            if (b < 0 || b == '\\') {
+                // Escaped or non-ASCII, compare the decoded key instead.
+                return decodeString(offset).equals(key);
+            }
+            if (b != key.charAt(k)) {
+                return false;
+            }
+        }
+        return bytes.get(i) == '"';
+    }
+
+    private Object materialize(int offset) {
+        var b = bytes.get(offset);
+        return switch (b) {
+            case '"' -> decodeString(offset);
+            case '{', '[' -> new Node(offset);
+            case 't' -> literal(offset, "true", Boolean.TRUE);
+            case 'f' -> literal(offset, "false", Boolean.FALSE);
+            case 'n' -> literal(offset, "null", null);
+            default -> number(offset);
+        };
+    }
+
+    private Object literal(int offset, String literal, Object value) {
+        skipLiteral(offset, literal);
+        return value;
+    }
+
+    private Object number(int offset) {
+        var end = skipNumber(offset);
+        if (end == offset) {
+            throw malformed(offset);
+        }
+        var negative = bytes.get(offset) == '-';
+        var start = negative ? offset + 1 : offset;
+        if (end - start <= 18 && end > start) {
+            var value = 0L;
+            var integral = true;
+            for (var i = start; i < end && integral; i++) {
+                var b = bytes.get(i);
+                integral = b >= '0' && b <= '9';
+                value = value * 10 + (b - '0');
+            }
+            if (integral) {
+                return negative ? -value : value;
+            }
+        }
+        try {
+            return new BigDecimal(text(offset, end));
+        } catch (NumberFormatException e) {
+            throw malformed(offset);
+        }
+    }
+
+    private String decodeString(int offset) {
+        var end = skipString(offset) - 1;
+        var start = offset + 1;
+        var escaped = false;
+        for (var i = start; i < end && !escaped; i++) {
+            escaped = bytes.get(i) == '\\';
+        }
+        if (!escaped) {
+            return text(start, end);
+        }
+        var builder = new StringBuilder(end - start);
+        var run = start;
+        for (var i = start; i < end; i++) {
+            if (bytes.get(i) != '\\') {
+                continue;
+            }
+            builder.append(text(run, i));
+            var escape = bytes.get(++i);
+            switch (escape) {
+                case '"', '\\', '/' -> builder.append((char) escape);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    try {
+                        builder.append((char) Integer.parseInt(text(i + 1, i + 5), 16));
+                    } catch (NumberFormatException e) {
+                        throw malformed(i);
+                    }
+                    i += 4;
+                }
+                default -> throw malformed(i);
+            }
+            run = i + 1;
+        }
+        return builder.append(text(run, end)).toString();
+    }
+
+    private String text(int from, int to) {
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + from, to - from, StandardCharsets.UTF_8);
+        }
+        var copy = new byte[to - from];
+        bytes.get(from, copy);
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+
+    int skipValue(int offset) {
+        return switch (bytes.get(offset)) {
+            case '"' -> skipString(offset);
+            case '{', '[' -> skipContainer(offset);
+            case 't' -> skipLiteral(offset, "true");
+            case 'f' -> skipLiteral(offset, "false");
+            case 'n' -> skipLiteral(offset, "null");
+            default -> {
+                var end = skipNumber(offset);
+                if (end == offset) {
+                    throw malformed(offset);
+                }
+                yield end;
+            }
+        };
+    }
+
+    private int skipLiteral(int offset, String literal) {
+        for (var i = 0; i < literal.length(); i++) {
+            if (bytes.get(offset + i) != literal.charAt(i)) {
+                throw malformed(offset);
+            }
+        }
+        return offset + literal.length();
+    }
+
+    private int skipString(int offset) {
+        for (var i = offset + 1; ; i++) {
+            var b = bytes.get(i);
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i + 1;
+            }
+        }
+    }
+
+    private int skipContainer(int offset) {
+        var depth = 0;
+        for (var i = offset; ; i++) {
+            switch (bytes.get(i)) {
+                case '"' -> i = skipString(i) - 1;
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    if (--depth == 0) {
+                        return i + 1;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private int skipNumber(int offset) {
+        var i = offset;
+        while (i < limit) {
+            var b = bytes.get(i);
+            if ((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private int skipWhitespace(int offset) {
+        var i = offset;
+        while (i < limit) {
+            var b = bytes.get(i);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private void expect(int offset, char expected) {
+        if (bytes.get(offset) != expected) {
+            throw malformed(offset);
+        }
+    }
+
+    private static String kind(byte b) {
+        return switch (b) {
+            case '{' -> "object";
+            case '[' -> "array";
+            case '"' -> "string";
+            case 't', 'f' -> "boolean";
+            default -> "number";
+        };
+    }
+
+    private static IllegalStateException malformed(int offset) {
+        return new IllegalStateException("Malformed JSON at offset " + offset + ".");
+    }
+
+    /**
+     * @return The raw JSON text of the whole document.
+     */
+    @Override
+    public String toString() {
+        return text(0, limit);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.FieldValueMemo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Accessor reading the fields from the raw JSON document in place, without binding it to any object.
+ * <br>
+ * The validating object could be the {@link JsonDocument} itself, or the object holding it, e.g.
+ * <pre>
+ *     &#064;Or(fields = {"body.email", "body.contact.phone"}, accessor = JsonFieldAccessor.class)
+ *     record CreateUserRequest(JsonDocument body) {...}
+ * </pre>
+ * The segments before reaching the document are accessed in the same way as {@link PojoFieldAccessor}, and the rest of
+ * the path is resolved within the document, see {@link JsonDocument#value(FieldPath)}. Reusing the same
+ * {@link JsonDocument} for all the constraints lets them share its cache. The {@code byte[]} or {@link ByteBuffer} is
+ * wrapped into a document once per payload within the {@link ValidationScope}, and on every access outside any scope.
+ */
+public class JsonFieldAccessor extends PojoFieldAccessor {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param bean The {@link JsonDocument}, the UTF-8 encoded JSON in {@code byte[]} or {@link ByteBuffer}, or the
+     *             object holding any of them.
+     * @param path The compiled path of the field to be accessing.
+     * @return {@inheritDoc}
+     */
+    @Override
+    Object lookup(Object bean, FieldPath path) {
+        var value = bean;
+        for (var i = 0; i < path.length() && value != null; i++) {
+            var document = document(value);
+            if (document != null) {
+                return resolve(document, path, i);
+            }
+            value = step(value, path, i);
+            if (value instanceof AccessFailure) {
+                return value;
+            }
+        }
+        var document = value == null ? null : document(value);
+        return document != null ? resolve(document, path, path.length()) : value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * NOT composable, since the object or array within the document is materialized as the {@link JsonDocument.Node},
+     * which couldn't be accessed further.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    public boolean isComposable() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * The paths within the raw document couldn't be told without scanning it.
+     *
+     * @param type The class of the target objects.
+     * @param path The compiled path of the field.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public AccessFailure resolve(Class<?> type, FieldPath path) {
+        if (type == JsonDocument.class || type == byte[].class || ByteBuffer.class.isAssignableFrom(type)) {
+            return null;
+        }
+        return super.resolve(type, path);
+    }
+
+    private static JsonDocument document(Object value) {
+        if (value instanceof JsonDocument document) {
+            return document;
+        }
+        if (!(value instanceof byte[]) && !(value instanceof ByteBuffer)) {
+            return null;
+        }
+        var memo = FieldValueMemo.current();
+        if (memo == null) {
+            return wrap(value);
+        }
+        // Memoized by the payload under the document class, apart from the values of any accessor.
+        return (JsonDocument) memo.values(value, JsonDocument.class).computeIfAbsent("", k -> wrap(value));
+    }
+
+    private static JsonDocument wrap(Object value) {
+        return value instanceof byte[] bytes ? JsonDocument.of(bytes) : JsonDocument.of((ByteBuffer) value);
+    }
+
+    private static Object resolve(JsonDocument document, FieldPath path, int from) {
+        try {
+            return document.value(path, from);
+        } catch (NoSuchFieldException | IllegalStateException e) {
+            return new AccessFailure(e);
+        }
+    }
+}
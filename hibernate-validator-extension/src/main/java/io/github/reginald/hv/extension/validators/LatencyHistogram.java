@@ -0,0 +1,117 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of the non-negative latencies in nanoseconds, without depending on any metrics library.
+ * <br>
+ * The values below {@value #LINEAR_BUCKETS} are recorded exactly. Each power of two above is divided into
+ * {@value #SUB_BUCKETS} buckets, so that the percentiles are accurate within 12.5%. Recording never allocates.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+
+    private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the latency.
+     *
+     * @param nanos The latency in nanoseconds, the negative value is recorded as {@code 0}.
+     */
+    public void record(long nanos) {
+        var value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * @return The count of the recorded latencies.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return The max recorded latency in nanoseconds, or {@code 0} if nothing recorded.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @return The mean of the recorded latencies in nanoseconds, or {@code 0} if nothing recorded.
+     */
+    public double mean() {
+        var count = count();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Provides the estimated latency at the specific percentile, i.e. the upper bound of the bucket containing it.
+     *
+     * @param percentile The percentile within {@code [0, 100]}.
+     * @return The latency in nanoseconds, or {@code 0} if nothing recorded.
+     * @throws IllegalArgumentException Throws if the percentile is out of range.
+     */
+    public long percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile " + percentile + " out of range [0, 100].");
+        }
+        var counts = new long[BUCKETS];
+        var total = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        var rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        var seen = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    static int bucket(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        var exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BITS;
+        var subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        var width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.reginald.hv.extension.validators;
 
+import io.github.reginald.hv.extension.validators.internal.LongValueSet;
+
 import java.util.Arrays;
 
 public class LongEnumValueValidator extends EnumValueValidator<LongEnumValue, Long> {
@@ -7,10 +9,14 @@ public class LongEnumValueValidator extends EnumValueValidator<LongEnumValue, Lo
     private boolean allowEmpty;
     private long[] range;
 
+    private LongValueSet values;
+
     @Override
     public void initialize(LongEnumValue constraintAnnotation) {
+        super.initialize(constraintAnnotation);
         allowEmpty = constraintAnnotation.allowEmpty();
         range = constraintAnnotation.value();
+        values = LongValueSet.of(range);
     }
 
     @Override
@@ -18,6 +24,21 @@ public class LongEnumValueValidator extends EnumValueValidator<LongEnumValue, Lo
         return allowEmpty;
     }
 
+    @Override
+    protected boolean contains(Long value) {
+        return contains(value.longValue());
+    }
+
+    /**
+     * Determines whether the value is one of the valid constants, without boxing.
+     *
+     * @param value The validating value.
+     * @return {@code true} if the value is valid.
+     */
+    public boolean contains(long value) {
+        return values.contains(value);
+    }
+
     @Override
     protected Long[] range() {
         return Arrays.stream(range).boxed().toArray(Long[]::new);
@@ -0,0 +1,55 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accessor tuned for the schemaless payloads, i.e. the trees of nested {@link Map}s and {@link List}s like the
+ * deserialized JSON.
+ * <br>
+ * e.g. the sku of the 4th item of the order could be referenced as {@code order.items[3].sku}, see
+ * {@link FieldPath#compile(String)}. The {@link HashMap}, {@link LinkedHashMap} and {@link ArrayList} are looked up by
+ * their exact classes first, so that the lookups are inlined without the interface dispatch. Accessing allocates
+ * nothing.
+ * <br>
+ * Once the traversal reaches any other object, the rest of the path is accessed in the same way as
+ * {@link PojoFieldAccessor}.
+ */
+public class MapFieldAccessor extends PojoFieldAccessor {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param bean The target map, list, or any object.
+     * @param path The compiled path of the field to be accessing.
+     * @return {@inheritDoc}
+     */
+    @Override
+    Object lookup(Object bean, FieldPath path) {
+        var value = bean;
+        for (var i = 0; i < path.length() && value != null && !(value instanceof AccessFailure); i++) {
+            var type = value.getClass();
+            if (path.isIndex(i)) {
+                if (type == ArrayList.class) {
+                    var list = (ArrayList<?>) value;
+                    var index = path.index(i);
+                    value = index < list.size() ? list.get(index) : null;
+                } else {
+                    value = element(value, path, i);
+                }
+            } else if (type == HashMap.class) {
+                value = ((HashMap<?, ?>) value).get(path.segment(i));
+            } else if (type == LinkedHashMap.class) {
+                value = ((LinkedHashMap<?, ?>) value).get(path.segment(i));
+            } else if (value instanceof Map<?, ?> map) {
+                value = map.get(path.segment(i));
+            } else {
+                return accessValueOrFailure(value, path, i);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * Accessor works the same as {@link PojoFieldAccessor}, but reads the values by getter lambdas generated with
+ * {@link LambdaMetafactory} and {@link MethodHandle}s instead of {@link Method#invoke(Object, Object...)} and
+ * {@link Field#get(Object)}, so that the reading could be inlined by the JIT compiler.
+ * <br>
+ * The fields and getters are resolved the same way as {@link PojoFieldAccessor}. Falls back to the reflective reading
+ * if the field or getter couldn't be looked up by this library, e.g. the package of the target pojo is NOT exported
+ * to this library when using JPMS. The getters of the classes NOT visible to the class loader of this library, e.g.
+ * loaded by the class loader of a webapp, are read by their {@link MethodHandle}s without the lambdas.
+ * <br>
+ * e.g.
+ * <pre>
+ *     &#064;Or(fields = {"a", "inner.b"}, accessor = MethodHandleFieldAccessor.class)
+ *     record Pojo (String a, NestedPojo inner) {...}
+ * </pre>
+ */
+public class MethodHandleFieldAccessor extends PojoFieldAccessor {
+
+    private static final ReaderCache READERS = new ReaderCache(MethodHandleFieldAccessor::handleReader);
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    public MethodHandleFieldAccessor() {
+        super(READERS);
+    }
+
+    static FieldReader handleReader(Member member) {
+        var lookup = MethodHandles.lookup();
+        try {
+            if (member instanceof Field field) {
+                return new HandleReader(lookup.unreflectGetter(field).asType(READER_TYPE));
+            }
+            var getter = (Method) member;
+            var handle = lookup.unreflect(getter);
+            if (!isVisible(getter.getDeclaringClass()) || !isVisible(getter.getReturnType())) {
+                // The lambda is defined by the class loader of this library, which couldn't link to them.
+                return new HandleReader(handle.asType(READER_TYPE));
+            }
+            var site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    READER_TYPE,
+                    handle,
+                    MethodType.methodType(getter.getReturnType(), getter.getDeclaringClass()).wrap());
+            @SuppressWarnings("unchecked")
+            var function = (Function<Object, Object>) site.getTarget().invoke();
+            return new LambdaReader(function);
+        } catch (Throwable e) {
+            return reflectiveReader(member);
+        }
+    }
+
+    /**
+     * Determines whether the class resolves to itself through the class loader of this library, which is NOT the case
+     * for the classes of a child class loader, e.g. the one of a webapp.
+     */
+    private static boolean isVisible(Class<?> type) {
+        var element = type;
+        while (element.isArray()) {
+            element = element.getComponentType();
+        }
+        if (element.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(element.getName(), false, MethodHandleFieldAccessor.class.getClassLoader()) == element;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private record HandleReader(MethodHandle handle) implements FieldReader {
+
+        @Override
+        public Object read(Object pojo) throws InvocationTargetException {
+            try {
+                return (Object) handle.invokeExact(pojo);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    private record LambdaReader(Function<Object, Object> getter) implements FieldReader {
+
+        @Override
+        public Object read(Object pojo) throws InvocationTargetException {
+            try {
+                return getter.apply(pojo);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package io.github.reginald.hv.extension.validators;
 
 import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Arrays;
 
 public class NandValidator extends CrossingFieldsValidator<Nand> {
 
@@ -18,6 +15,7 @@ public class NandValidator extends CrossingFieldsValidator<Nand> {
         fields = constraintAnnotation.fields();
         accessorClass = constraintAnnotation.accessor();
         verifierClass = constraintAnnotation.fieldVerifier();
+        super.initialize(constraintAnnotation);
     }
 
     @Override
@@ -35,11 +33,14 @@ public class NandValidator extends CrossingFieldsValidator<Nand> {
         return verifierClass;
     }
 
+    /**
+     * Valid as soon as any field is invalid.
+     */
     @Override
-    protected boolean isValid(FieldVerifier verifier, Object validatingTarget, FieldAccessor.FieldTuple[] fields, ConstraintValidatorContext context) {
-        return Arrays.stream(fields)
-                .map(field -> verifier.verify(validatingTarget, field.field(), field.value()))
-                .filter(valid -> valid)
-                .count() < fields.length;
+    protected Decision decide(int validCount, int invalidCount, int fieldCount) {
+        if (invalidCount > 0) {
+            return Decision.VALID;
+        }
+        return Decision.whenAllVerified(validCount, invalidCount, fieldCount, false);
     }
 }
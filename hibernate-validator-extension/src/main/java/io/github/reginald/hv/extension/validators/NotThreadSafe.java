@@ -0,0 +1,16 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.lang.annotation.*;
+
+/**
+ * Indicates that the {@link FieldAccessor} or {@link FieldVerifier} implementation is NOT thread-safe.
+ * <br>
+ * The instances of the implementations are resolved once and shared across all validations by default. The annotated
+ * implementations are instantiated for each validation instead.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface NotThreadSafe {
+}
@@ -1,9 +1,6 @@
 package io.github.reginald.hv.extension.validators;
 
 import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Arrays;
 
 public class OrValidator extends CrossingFieldsValidator<Or> {
 
@@ -18,6 +15,7 @@ public class OrValidator extends CrossingFieldsValidator<Or> {
         fields = constraintAnnotation.fields();
         accessorClass = constraintAnnotation.accessor();
         verifierClass = constraintAnnotation.fieldVerifier();
+        super.initialize(constraintAnnotation);
     }
 
     @Override
@@ -35,8 +33,14 @@ public class OrValidator extends CrossingFieldsValidator<Or> {
         return verifierClass;
     }
 
+    /**
+     * Valid as soon as any field is valid.
+     */
     @Override
-    protected boolean isValid(FieldVerifier verifier, Object validatingTarget, FieldAccessor.FieldTuple[] fields, ConstraintValidatorContext context) {
-        return Arrays.stream(fields).anyMatch(field -> verifier.verify(validatingTarget, field.field(), field.value()));
+    protected Decision decide(int validCount, int invalidCount, int fieldCount) {
+        if (validCount > 0) {
+            return Decision.VALID;
+        }
+        return Decision.whenAllVerified(validCount, invalidCount, fieldCount, false);
     }
 }
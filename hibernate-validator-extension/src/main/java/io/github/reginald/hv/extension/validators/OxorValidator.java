@@ -1,9 +1,6 @@
 package io.github.reginald.hv.extension.validators;
 
 import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Arrays;
 
 public class OxorValidator extends CrossingFieldsValidator<Oxor> {
 
@@ -18,6 +15,7 @@ public class OxorValidator extends CrossingFieldsValidator<Oxor> {
         fields = constraintAnnotation.fields();
         accessorClass = constraintAnnotation.accessor();
         verifierClass = constraintAnnotation.fieldVerifier();
+        super.initialize(constraintAnnotation);
     }
 
     @Override
@@ -35,11 +33,14 @@ public class OxorValidator extends CrossingFieldsValidator<Oxor> {
         return verifierClass;
     }
 
+    /**
+     * Invalid as soon as the second valid field is found.
+     */
     @Override
-    protected boolean isValid(FieldVerifier verifier, Object validatingTarget, FieldAccessor.FieldTuple[] fields, ConstraintValidatorContext context) {
-        return Arrays.stream(fields)
-                .map(field -> verifier.verify(validatingTarget, field.field(), field.value()))
-                .filter(valid -> valid)
-                .count() <= 1;
+    protected Decision decide(int validCount, int invalidCount, int fieldCount) {
+        if (validCount > 1) {
+            return Decision.INVALID;
+        }
+        return Decision.whenAllVerified(validCount, invalidCount, fieldCount, true);
     }
 }
@@ -0,0 +1,467 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Accessor for accessing any field of any object or map, including nested fields.
+ * <br>
+ * <i>This implementation using reflection for accessing the field values of the target object. So make sure to
+ * {@code open} the class of the target pojo when using JPMS.</i>
+ * <br>
+ * The way of reading each field is resolved only once per class and cached afterward, including the fields which
+ * couldn't be resolved at all.
+ * <br>
+ * When the accessor of the validating class is generated by {@code hibernate-validator-extension-processor}, the
+ * generated one is used instead of this one by default, which reads the fields without reflection and requires the
+ * package to be exported rather than opened.
+ */
+public class PojoFieldAccessor implements FieldAccessor {
+
+    private static final ReaderCache READERS = new ReaderCache(PojoFieldAccessor::reflectiveReader);
+
+    /**
+     * The entry point overridden by each subclass without overriding {@link #accessValueOrFailure(Object, FieldPath)}
+     * as well, which must then be delegated to it.
+     */
+    private static final ClassValue<Overridden> OVERRIDDEN = new ClassValue<>() {
+
+        @Override
+        protected Overridden computeValue(Class<?> type) {
+            try {
+                var base = type.getMethod("accessValueOrFailure", Object.class, FieldPath.class).getDeclaringClass();
+                if (isOverridden(type.getMethod("access", Object.class, String.class), base)) {
+                    return Overridden.ACCESS_FIELD;
+                }
+                if (isOverridden(type.getMethod("access", Object.class, FieldPath.class), base)) {
+                    return Overridden.ACCESS_PATH;
+                }
+                if (isOverridden(type.getMethod("accessValue", Object.class, FieldPath.class), base)) {
+                    return Overridden.ACCESS_VALUE;
+                }
+                return Overridden.NONE;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static boolean isOverridden(Method method, Class<?> base) {
+            return !method.getDeclaringClass().isAssignableFrom(base);
+        }
+    };
+
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+    private final ReaderCache readers;
+
+    private final Overridden overridden;
+
+    public PojoFieldAccessor() {
+        this(READERS);
+    }
+
+    PojoFieldAccessor(ReaderCache readers) {
+        this.readers = readers;
+        this.overridden = OVERRIDDEN.get(getClass());
+    }
+
+    /**
+     * Accesses the field of the very target pojo, including nested fields.
+     * <br>
+     * e.g. Suppose we have a record like
+     * <pre>
+     *     {@code
+     *     record Pojo(String a, NestedPojo inner) {
+     *         record NestedPojo(String b) {}
+     *     }
+     *     }
+     * </pre>
+     * The field {@code b} of the inner record {@code NestedPojo} could be referenced as {@code inner.b}. That is, if we
+     * want to indicate that at least one of the string {@code a} or the string {@code b} contains a valid value, we could
+     * use this annotation like
+     * <pre>
+     *     &#064;Or(fields = {"a", "inner.b"})
+     *     record Pojo (String a, NestedPojo inner) {...}
+     * </pre>
+     * This works for both nested POJO and Map. The element of the list or array could be referenced by the index, like
+     * {@code items[3].sku}, see {@link FieldPath#compile(String)}.
+     *
+     * @param pojo  The target object contains the field requires to be accessing. Could be a pojo or a map.
+     * @param field The field to be accessing.
+     * @return {@inheritDoc}
+     * @throws AccessFieldException {@inheritDoc}
+     */
+    public FieldTuple access(Object pojo, String field) throws AccessFieldException {
+        return access(pojo, FieldPath.compile(field));
+    }
+
+    /**
+     * Accesses the field of the very target pojo by the pre-compiled path, including nested fields.
+     * <br>
+     * The traversal ends with {@code null} value if any intermediate field is {@code null}.
+     *
+     * @param pojo The target object contains the field requires to be accessing. Could be a pojo or a map.
+     * @param path The compiled path of the field to be accessing.
+     * @return {@inheritDoc}
+     * @throws AccessFieldException {@inheritDoc}
+     * @see #access(Object, String)
+     */
+    @Override
+    public FieldTuple access(Object pojo, FieldPath path) throws AccessFieldException {
+        return new FieldTuple(path.path(), accessValue(pojo, path));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pojo The target object contains the field requires to be accessing. Could be a pojo or a map.
+     * @param path The compiled path of the field to be accessing.
+     * @return {@inheritDoc}
+     * @throws AccessFieldException {@inheritDoc}
+     * @see #access(Object, FieldPath)
+     */
+    @Override
+    public Object accessValue(Object pojo, FieldPath path) throws AccessFieldException {
+        return valueOrThrow(lookup(pojo, path), path);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * The missing field or getter of each class is resolved into the same failure with the stackless cause every time.
+     * <br>
+     * If a subclass overrides {@link #access(Object, String)}, {@link #access(Object, FieldPath)} or
+     * {@link #accessValue(Object, FieldPath)} without overriding this one, the overridden method is called instead, so
+     * that its logic is never bypassed. The first of them in that order is called, since each one calls the next one
+     * by default.
+     *
+     * @param pojo The target object contains the field requires to be accessing. Could be a pojo or a map.
+     * @param path The compiled path of the field to be accessing.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Object accessValueOrFailure(Object pojo, FieldPath path) {
+        if (overridden == Overridden.NONE) {
+            return lookup(pojo, path);
+        }
+        try {
+            return switch (overridden) {
+                case ACCESS_FIELD -> access(pojo, path.path()).value();
+                case ACCESS_PATH -> access(pojo, path).value();
+                default -> accessValue(pojo, path);
+            };
+        } catch (AccessFieldException e) {
+            return new AccessFailure(e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Composable, since every segment is accessed on the value of the previous one. The subclasses which access the
+     * path as a whole should override it.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean isComposable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Resolves the first segment through the same cache as accessing, so each missing field or getter is resolved only
+     * once per class. The further segments depend on the values, and the maps and the subclasses overriding the
+     * access methods couldn't be told.
+     *
+     * @param type The class of the target objects.
+     * @param path The compiled path of the field.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public AccessFailure resolve(Class<?> type, FieldPath path) {
+        if (overridden != Overridden.NONE || path.isIndex(0) || Map.class.isAssignableFrom(type)) {
+            return null;
+        }
+        return readers.reader(type, path.segment(0)) instanceof MissingReader missing ? missing.failure() : null;
+    }
+
+    /**
+     * Accesses the value of the field, the way of the built-in accessor. The built-in subclasses override this one only,
+     * so that the overrides of the public methods by the further subclasses are detected in one place.
+     *
+     * @param pojo The target object contains the field requires to be accessing.
+     * @param path The compiled path of the field to be accessing.
+     * @return The value of the field, or the {@link AccessFailure} if any segment couldn't be accessed.
+     */
+    Object lookup(Object pojo, FieldPath path) {
+        return accessValueOrFailure(pojo, path, 0);
+    }
+
+    /**
+     * Unwraps the result of {@link #accessValueOrFailure(Object, FieldPath)}.
+     *
+     * @param value The value, or the {@link AccessFailure}.
+     * @param path The compiled path of the field.
+     * @return The value.
+     * @throws AccessFieldException Throws if the value is the failure.
+     */
+    static Object valueOrThrow(Object value, FieldPath path) throws AccessFieldException {
+        if (value instanceof AccessFailure failure) {
+            throw failure.toException(path);
+        }
+        return value;
+    }
+
+    /**
+     * The public entry point overridden by a subclass, in the order of the calls by default.
+     */
+    private enum Overridden {
+        NONE,
+        ACCESS_VALUE,
+        ACCESS_PATH,
+        ACCESS_FIELD
+    }
+
+    /**
+     * Accesses the rest of the path, starting from the specific segment.
+     *
+     * @param value The value of the segment before {@code from}, or the target object if {@code from} is {@code 0}.
+     * @param path The compiled path of the field to be accessing.
+     * @param from The position of the first segment to be accessed.
+     * @return The value of the field, or the {@link AccessFailure} if any segment couldn't be accessed.
+     */
+    Object accessValueOrFailure(Object value, FieldPath path, int from) {
+        for (var i = from; i < path.length() && value != null && !(value instanceof AccessFailure); i++) {
+            value = step(value, path, i);
+        }
+        return value;
+    }
+
+    /**
+     * Accesses the single segment.
+     *
+     * @param value The non-null value of the segment before.
+     * @param path The compiled path of the field to be accessing.
+     * @param i The position of the segment.
+     * @return The value of the segment, or the {@link AccessFailure} if the segment couldn't be accessed.
+     */
+    final Object step(Object value, FieldPath path, int i) {
+        if (path.isIndex(i)) {
+            return element(value, path, i);
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(path.segment(i));
+        }
+        var reader = readers.reader(value.getClass(), path.segment(i));
+        if (reader instanceof MissingReader missing) {
+            return missing.failure();
+        }
+        try {
+            return reader.read(value);
+        } catch (ReflectiveOperationException e) {
+            return new AccessFailure(e);
+        }
+    }
+
+    /**
+     * Accesses the element of the list or array. The index out of range ends the traversal with {@code null} value, like
+     * the absent key of the map.
+     *
+     * @param value The list or array.
+     * @param path The compiled path.
+     * @param i The position of the index segment.
+     * @return The element, or the {@link AccessFailure} if the value is neither a list nor an array.
+     */
+    static Object element(Object value, FieldPath path, int i) {
+        var index = path.index(i);
+        if (value instanceof List<?> list) {
+            return index < list.size() ? list.get(index) : null;
+        }
+        if (value instanceof Object[] array) {
+            return index < array.length ? array[index] : null;
+        }
+        if (value.getClass().isArray()) {
+            return index < Array.getLength(value) ? Array.get(value, index) : null;
+        }
+        return new AccessFailure(new NoSuchFieldException("Field " + path.segment(i) + " of " + value.getClass().getName() + " is NOT a list or an array."));
+    }
+
+    /**
+     * Resolves the field of the class ahead of accessing it, caching the way of reading it as accessing does.
+     *
+     * @param clazz The class declaring or inheriting the field.
+     * @param field The name of the field.
+     * @return The declared type of the field.
+     * @throws NoSuchFieldException Throws if the field doesn't exist.
+     * @throws NoSuchMethodException Throws if the field isn't public and has no public getter.
+     * @see ConstraintPaths
+     */
+    Type prepare(Class<?> clazz, String field) throws NoSuchFieldException, NoSuchMethodException {
+        var member = resolveMember(clazz, field);
+        readers.reader(clazz, field);
+        return member instanceof Field f ? f.getGenericType() : ((Method) member).getGenericReturnType();
+    }
+
+    /**
+     * Creates the reader reading the field or invoking the getter by core reflection.
+     *
+     * @param member The resolved {@link Field} or getter {@link Method}.
+     * @return The reader.
+     */
+    static FieldReader reflectiveReader(Member member) {
+        if (member instanceof Field field) {
+            return new FieldValueReader(field);
+        }
+        return new MethodReader((Method) member);
+    }
+
+    /**
+     * Resolves the field or the getter of the specific class, which the value of the field could be read from.
+     * <br>
+     * A record component is read by its accessor. Otherwise, the field is looked up through the class hierarchy, and
+     * read directly if it's public, or by its public getter ({@code field()}, {@code getField()} or {@code isField()}
+     * for boolean fields).
+     *
+     * @param clazz The class declaring or inheriting the field.
+     * @param field The name of the field.
+     * @return The public {@link Field} or the getter {@link Method}.
+     * @throws NoSuchFieldException Throws if the field doesn't exist.
+     * @throws NoSuchMethodException Throws if the field isn't public and has no public getter.
+     */
+    static Member resolveMember(Class<?> clazz, String field) throws NoSuchFieldException, NoSuchMethodException {
+        if (clazz.isRecord()) {
+            for (var component : clazz.getRecordComponents()) {
+                if (component.getName().equals(field)) {
+                    return component.getAccessor();
+                }
+            }
+        }
+
+        var f = findField(clazz, field);
+        if (f == null) {
+            throw new NoSuchFieldException(field);
+        }
+        if (Modifier.isPublic(f.getModifiers())) {
+            return f;
+        }
+
+        var fieldWithFirstLetterCapitalized = field.substring(0, 1).toUpperCase() + field.substring(1);
+        var possibleGetter = new ArrayList<String>();
+        possibleGetter.add(field);
+        possibleGetter.add("get" + fieldWithFirstLetterCapitalized);
+        if (Boolean.class.isAssignableFrom(f.getType()) || boolean.class == f.getType()) {
+            possibleGetter.add("is" + fieldWithFirstLetterCapitalized);
+        }
+        for (var name : possibleGetter) {
+            try {
+                var getter = clazz.getMethod(name);
+                if (Modifier.isPublic(getter.getModifiers())) {
+                    return getter;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // Try the next candidate.
+            }
+        }
+        throw new NoSuchMethodException("No getter for field " + field + " found.");
+    }
+
+    private static Field findField(Class<?> clazz, String field) {
+        for (var c = clazz; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(field);
+            } catch (NoSuchFieldException ignored) {
+                // Look up the super class.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reader of the value of one field of the objects of one class.
+     */
+    @FunctionalInterface
+    interface FieldReader {
+
+        Object read(Object pojo) throws ReflectiveOperationException;
+    }
+
+    /**
+     * Cache of the resolved {@link FieldReader}s per class and field, including the fields couldn't be resolved.
+     */
+    static final class ReaderCache extends ClassValue<Map<String, FieldReader>> {
+
+        private final Function<Member, FieldReader> readerFactory;
+
+        ReaderCache(Function<Member, FieldReader> readerFactory) {
+            this.readerFactory = readerFactory;
+        }
+
+        @Override
+        protected Map<String, FieldReader> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+
+        FieldReader reader(Class<?> clazz, String field) {
+            var readers = get(clazz);
+            var reader = readers.get(field);
+            if (reader == null) {
+                reader = readers.computeIfAbsent(field, f -> resolveReader(clazz, f));
+            }
+            return reader;
+        }
+
+        private FieldReader resolveReader(Class<?> clazz, String field) {
+            try {
+                return readerFactory.apply(resolveMember(clazz, field));
+            } catch (NoSuchFieldException | NoSuchMethodException e) {
+                e.setStackTrace(NO_STACK_TRACE);
+                return new MissingReader(e);
+            }
+        }
+    }
+
+    /**
+     * Reader of the field which couldn't be resolved, failing with the same stackless cause every time.
+     */
+    private record MissingReader(ReflectiveOperationException cause, AccessFailure failure) implements FieldReader {
+
+        MissingReader(ReflectiveOperationException cause) {
+            this(cause, new AccessFailure(cause));
+        }
+
+        @Override
+        public Object read(Object pojo) throws ReflectiveOperationException {
+            throw cause;
+        }
+    }
+
+    private record FieldValueReader(Field field) implements FieldReader {
+
+        @Override
+        public Object read(Object pojo) throws IllegalAccessException {
+            return field.get(pojo);
+        }
+    }
+
+    private record MethodReader(Method getter) implements FieldReader {
+
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        @Override
+        public Object read(Object pojo) throws IllegalAccessException, InvocationTargetException {
+            return getter.invoke(pojo, NO_ARGUMENTS);
+        }
+    }
+}
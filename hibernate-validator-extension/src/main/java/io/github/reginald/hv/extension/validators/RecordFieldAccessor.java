@@ -0,0 +1,92 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+
+/**
+ * Accessor tuned for the records, reading the record components by the getter lambdas resolved once per record class.
+ * The records of the class loaders NOT visible to this library are read in the same way as
+ * {@link MethodHandleFieldAccessor} does.
+ * <br>
+ * The {@link Class#getRecordComponents() components} of each record class are read only once, and the component is
+ * looked up by its name among them on access, without building the getter names or probing the getters. The nested
+ * records are read in the same way, e.g. {@code inner.b} of
+ * <pre>
+ *     &#064;Or(fields = {"a", "inner.b"}, accessor = RecordFieldAccessor.class)
+ *     record Pojo (String a, NestedPojo inner) {...}
+ * </pre>
+ * Any segment which isn't a record component, e.g. the field of a non-record object, the map entry or the list
+ * element, is accessed in the same way as {@link PojoFieldAccessor}.
+ */
+public class RecordFieldAccessor extends PojoFieldAccessor {
+
+    private static final ClassValue<Components> COMPONENTS = new ClassValue<>() {
+
+        @Override
+        protected Components computeValue(Class<?> type) {
+            return Components.of(type);
+        }
+    };
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param bean The target record, or any object.
+     * @param path The compiled path of the field to be accessing.
+     * @return {@inheritDoc}
+     */
+    @Override
+    Object lookup(Object bean, FieldPath path) {
+        var value = bean;
+        for (var i = 0; i < path.length() && value != null && !(value instanceof AccessFailure); i++) {
+            var reader = path.isIndex(i) ? null : COMPONENTS.get(value.getClass()).reader(path.segment(i));
+            if (reader == null) {
+                value = step(value, path, i);
+                continue;
+            }
+            try {
+                value = reader.read(value);
+            } catch (ReflectiveOperationException e) {
+                return new AccessFailure(e);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    Type prepare(Class<?> clazz, String field) throws NoSuchFieldException, NoSuchMethodException {
+        COMPONENTS.get(clazz);
+        return super.prepare(clazz, field);
+    }
+
+    /**
+     * Readers of the components of one record class, in the order of declaration. Empty for non-record classes.
+     */
+    private record Components(String[] names, FieldReader[] readers) {
+
+        private static final Components NONE = new Components(new String[0], new FieldReader[0]);
+
+        static Components of(Class<?> type) {
+            if (!type.isRecord()) {
+                return NONE;
+            }
+            RecordComponent[] components = type.getRecordComponents();
+            var names = new String[components.length];
+            var readers = new FieldReader[components.length];
+            for (var i = 0; i < components.length; i++) {
+                names[i] = components[i].getName();
+                readers[i] = MethodHandleFieldAccessor.handleReader(components[i].getAccessor());
+            }
+            return new Components(names, readers);
+        }
+
+        FieldReader reader(String name) {
+            for (var i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return readers[i];
+                }
+            }
+            return null;
+        }
+    }
+}
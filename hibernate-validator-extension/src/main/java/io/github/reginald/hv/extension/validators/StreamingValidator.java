@@ -0,0 +1,396 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Validates the objects from the {@link Iterator}, {@link Stream} or {@link Flow.Publisher} one by one, emitting only
+ * the invalid ones incrementally, so that the source could be far larger than the memory.
+ * <br>
+ * Each object is validated by the {@link Validator}, exactly as validating it alone, including the crossing-field and
+ * the enum-like constraints. At most {@link #bufferSize()} objects are held at any time:
+ * <ul>
+ *     <li>The pulling sources, i.e. {@link Iterator} and {@link Stream}, are read ahead by at most the buffer size, and
+ *     validated on the executor if parallel. The invalid objects are emitted in the order of the source.</li>
+ *     <li>The {@link Flow.Publisher} source is requested by at most the buffer size ahead of the downstream demand, and
+ *     validated on the thread signalling the object.</li>
+ * </ul>
+ * Instances are immutable and thread-safe.
+ * <pre>{@code
+ * try (var invalid = StreamingValidator.of(validator).parallel(4, executor).validate(rows)) {
+ *     invalid.forEach(element -> reject(element.index(), element.violations()));
+ * }
+ * }</pre>
+ *
+ * @param <T> The type of the validating objects.
+ */
+public final class StreamingValidator<T> {
+
+    /**
+     * Objects held by the sequential validation by default.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * The invalid object.
+     *
+     * @param index The index of the object in the source, starting from {@code 0}.
+     * @param element The object.
+     * @param violations The constraint violations, never empty.
+     * @param <T> The type of the object.
+     */
+    public record InvalidElement<T>(long index, T element, Set<ConstraintViolation<T>> violations) {
+    }
+
+    private final Validator validator;
+
+    private final Class<?>[] groups;
+
+    private final int bufferSize;
+
+    private final ExecutorService executor;
+
+    private StreamingValidator(Validator validator, Class<?>[] groups, int bufferSize, ExecutorService executor) {
+        this.validator = validator;
+        this.groups = groups;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the sequential streaming validator.
+     *
+     * @param validator The validator validating each object.
+     * @param groups The groups to validate, or the default group if empty.
+     * @param <T> The type of the validating objects.
+     * @return The streaming validator.
+     */
+    public static <T> StreamingValidator<T> of(Validator validator, Class<?>... groups) {
+        return new StreamingValidator<>(Objects.requireNonNull(validator), groups.clone(), DEFAULT_BUFFER_SIZE, null);
+    }
+
+    /**
+     * Derives the streaming validator validating the objects from the pulling sources on the executor.
+     *
+     * @param parallelism The count of the objects validated concurrently, which is also the buffer size.
+     * @param executor The executor validating the objects.
+     * @return The derived streaming validator.
+     * @throws IllegalArgumentException Throws if the parallelism is NOT positive.
+     */
+    public StreamingValidator<T> parallel(int parallelism, ExecutorService executor) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism should be positive but " + parallelism + ".");
+        }
+        return new StreamingValidator<>(validator, groups, parallelism, Objects.requireNonNull(executor));
+    }
+
+    /**
+     * Derives the streaming validator holding at most the specific count of objects.
+     *
+     * @param bufferSize The max count of the held objects.
+     * @return The derived streaming validator.
+     * @throws IllegalArgumentException Throws if the buffer size is NOT positive.
+     */
+    public StreamingValidator<T> bufferSize(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size should be positive but " + bufferSize + ".");
+        }
+        return new StreamingValidator<>(validator, groups, bufferSize, executor);
+    }
+
+    /**
+     * @return The max count of the objects held at any time.
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Validates the objects lazily as the returned iterator is consumed. When validating on the executor, stopping
+     * consuming it early leaves the objects read ahead being validated, which the returned stream of
+     * {@link #validate(Stream)} cancels once closed.
+     *
+     * @param source The source of the objects.
+     * @return The invalid objects, in the order of the source.
+     */
+    public Iterator<InvalidElement<T>> validate(Iterator<? extends T> source) {
+        return new ValidatingIterator(Objects.requireNonNull(source));
+    }
+
+    /**
+     * Validates the objects lazily as the returned stream is consumed. Closing the returned stream cancels the
+     * validations of the objects read ahead, and closes the source.
+     *
+     * @param source The source of the objects.
+     * @return The invalid objects, in the order of the source.
+     */
+    public Stream<InvalidElement<T>> validate(Stream<? extends T> source) {
+        var iterator = new ValidatingIterator(source.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.cancel();
+                    } finally {
+                        source.close();
+                    }
+                });
+    }
+
+    /**
+     * Validates the objects as the returned publisher is subscribed and requested.
+     *
+     * @param source The source of the objects.
+     * @return The invalid objects, in the order of the source. Each subscription subscribes the source once.
+     */
+    public Flow.Publisher<InvalidElement<T>> validate(Flow.Publisher<? extends T> source) {
+        Objects.requireNonNull(source);
+        return subscriber -> source.subscribe(new ValidatingSubscription(Objects.requireNonNull(subscriber)));
+    }
+
+    private InvalidElement<T> validate(long index, T element) {
+        var violations = validator.validate(element, groups);
+        return violations.isEmpty() ? null : new InvalidElement<>(index, element, violations);
+    }
+
+    private final class ValidatingIterator implements Iterator<InvalidElement<T>> {
+
+        private final Iterator<? extends T> source;
+
+        private final Queue<Future<InvalidElement<T>>> window = new ArrayDeque<>();
+
+        private long index;
+
+        private InvalidElement<T> next;
+
+        private ValidatingIterator(Iterator<? extends T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (executor == null) {
+                    if (!source.hasNext()) {
+                        return false;
+                    }
+                    next = validate(index, source.next());
+                    index++;
+                    continue;
+                }
+                while (window.size() < bufferSize && source.hasNext()) {
+                    var i = index++;
+                    var element = source.next();
+                    window.add(executor.submit(() -> validate(i, element)));
+                }
+                var head = window.poll();
+                if (head == null) {
+                    return false;
+                }
+                next = await(head);
+            }
+            return true;
+        }
+
+        @Override
+        public InvalidElement<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var result = next;
+            next = null;
+            return result;
+        }
+
+        private InvalidElement<T> await(Future<InvalidElement<T>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                cancel();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new CompletionException(e.getCause());
+            }
+        }
+
+        /**
+         * Cancels the validations of the objects read ahead.
+         */
+        private void cancel() {
+            window.forEach(f -> f.cancel(true));
+            window.clear();
+        }
+    }
+
+    /**
+     * Bridges the source and the subscriber. Every signal to the subscriber and every request to the source is made in
+     * the serialized drain loop. The requested objects from the source plus the queued invalid objects never exceed the
+     * buffer size.
+     */
+    private final class ValidatingSubscription implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super InvalidElement<T>> downstream;
+
+        private final Queue<InvalidElement<T>> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicLong freed = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Flow.Subscription upstream;
+
+        private long index;
+
+        private volatile boolean done;
+
+        private volatile boolean cancelled;
+
+        private Throwable error;
+
+        private volatile Throwable requestError;
+
+        private boolean terminated;
+
+        private ValidatingSubscription(Flow.Subscriber<? super InvalidElement<T>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            freed.set(bufferSize);
+            downstream.onSubscribe(this);
+            drain();
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done || cancelled) {
+                return;
+            }
+            InvalidElement<T> invalid;
+            try {
+                invalid = validate(index++, item);
+            } catch (RuntimeException e) {
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+            if (invalid == null) {
+                freed.incrementAndGet();
+            } else {
+                queue.offer(invalid);
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Request should be positive but " + n + ".");
+                cancel();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                drain();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            var missed = 1;
+            do {
+                if (cancelled || terminated) {
+                    queue.clear();
+                    if (requestError != null && !terminated) {
+                        terminated = true;
+                        downstream.onError(requestError);
+                    }
+                } else {
+                    var demand = requested.get();
+                    var emitted = 0L;
+                    while (emitted != demand) {
+                        var invalid = queue.poll();
+                        if (invalid == null) {
+                            break;
+                        }
+                        downstream.onNext(invalid);
+                        emitted++;
+                    }
+                    if (emitted != 0 && demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                    if (done && queue.isEmpty()) {
+                        terminated = true;
+                        if (error != null) {
+                            downstream.onError(error);
+                        } else {
+                            downstream.onComplete();
+                        }
+                    } else {
+                        var refill = freed.getAndSet(0) + emitted;
+                        if (refill > 0 && !done) {
+                            upstream.request(refill);
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
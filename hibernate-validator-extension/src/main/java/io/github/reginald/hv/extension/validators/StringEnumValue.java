@@ -28,4 +28,19 @@ public @interface StringEnumValue {
     String[] value();
 
     boolean allowEmpty() default false;
+
+    /**
+     * Defines whether to ignore the case when matching, in the same way as {@link String#equalsIgnoreCase(String)}.
+     *
+     * @return {@code true} for matching case-insensitively.
+     */
+    boolean ignoreCase() default false;
+
+    /**
+     * Defines whether to ignore the leading and trailing whitespaces of both the validating value and the constants
+     * when matching, in the same way as {@link String#trim()}.
+     *
+     * @return {@code true} for matching the trimmed value.
+     */
+    boolean trim() default false;
 }
@@ -1,15 +1,21 @@
 package io.github.reginald.hv.extension.validators;
 
+import io.github.reginald.hv.extension.validators.internal.StringMatcher;
+
 public class StringEnumValueValidator extends EnumValueValidator<StringEnumValue, String> {
 
     private boolean allowEmpty;
 
     private String[] range;
 
+    private StringMatcher matcher;
+
     @Override
     public void initialize(StringEnumValue constraintAnnotation) {
+        super.initialize(constraintAnnotation);
         allowEmpty = constraintAnnotation.allowEmpty();
         range = constraintAnnotation.value();
+        matcher = StringMatcher.of(range, constraintAnnotation.ignoreCase(), constraintAnnotation.trim());
     }
 
     @Override
@@ -17,6 +23,11 @@ public class StringEnumValueValidator extends EnumValueValidator<StringEnumValue
         return allowEmpty;
     }
 
+    @Override
+    protected boolean contains(String value) {
+        return matcher.matches(value);
+    }
+
     @Override
     protected String[] range() {
         return range;
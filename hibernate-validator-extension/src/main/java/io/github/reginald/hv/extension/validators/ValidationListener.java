@@ -0,0 +1,75 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
+import io.github.reginald.hv.extension.validators.internal.ValidationListeners;
+
+import java.lang.annotation.Annotation;
+import java.util.ServiceLoader;
+
+/**
+ * SPI listening to the evaluations of the constraints, e.g. for recording the metrics. See {@link ValidationMetrics}
+ * for the built-in implementation.
+ * <br>
+ * The listeners are discovered by {@link ServiceLoader}, or registered by {@link #register(ValidationListener)} and
+ * unregistered by {@link #unregister(ValidationListener)}. The validators look the listeners up on each evaluation, so
+ * the changes apply to the validators already created as well, except the fused {@link BatchValidator} evaluation,
+ * which is planned only when no listener is registered. Without any listener, the validators take no timestamps and
+ * notify nothing.
+ * <br>
+ * The listener is invoked on the validating thread, so it should be thread-safe and return quickly.
+ */
+public interface ValidationListener {
+
+    /**
+     * Invoked after a constraint is evaluated.
+     *
+     * @param constraintType The type of the constraint annotation.
+     * @param validatedClass The class of the validated value, or {@code null} if the value is {@code null}.
+     * @param valid The result of the evaluation.
+     * @param elapsedNanos The time of the evaluation in nanoseconds.
+     */
+    default void onValidated(Class<? extends Annotation> constraintType, Class<?> validatedClass, boolean valid, long elapsedNanos) {
+    }
+
+    /**
+     * Invoked when a field couldn't be accessed by the {@link CrossingFieldsValidator}.
+     *
+     * @param constraintType The type of the constraint annotation.
+     * @param validatedClass The class of the validated object.
+     * @param field The field couldn't be accessed.
+     * @param cause The cause of the {@link FieldAccessor.AccessFieldException}, could be {@code null}.
+     */
+    default void onAccessFailed(Class<? extends Annotation> constraintType, Class<?> validatedClass, String field, Throwable cause) {
+    }
+
+    /**
+     * Invoked after a field is verified by the {@link FieldVerifier} of the {@link CrossingFieldsValidator}.
+     *
+     * @param constraintType The type of the constraint annotation.
+     * @param validatedClass The class of the validated object.
+     * @param field The verified field.
+     * @param elapsedNanos The time of the verification in nanoseconds.
+     */
+    default void onVerified(Class<? extends Annotation> constraintType, Class<?> validatedClass, String field, long elapsedNanos) {
+    }
+
+    /**
+     * Registers the listener programmatically, which is notified by all the validators afterward, including the ones
+     * created before.
+     *
+     * @param listener The listener.
+     */
+    static void register(ValidationListener listener) {
+        ValidationListeners.register(listener);
+    }
+
+    /**
+     * Unregisters the listener registered by {@link #register(ValidationListener)}, which is notified by no validator
+     * afterward.
+     *
+     * @param listener The listener.
+     */
+    static void unregister(ValidationListener listener) {
+        ValidationListeners.unregister(listener);
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.reginald.hv.extension.validators;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Built-in {@link ValidationListener} recording the metrics per constraint type and validated class in memory, for
+ * exposing them to any metrics system.
+ * <pre>{@code
+ * var metrics = new ValidationMetrics();
+ * ValidationListener.register(metrics);
+ * ...
+ * metrics.forEach((key, stats) -> report(key.constraintType(), key.validatedClass(), stats.latency().percentile(99)));
+ * }</pre>
+ */
+public class ValidationMetrics implements ValidationListener {
+
+    /**
+     * Key of the metrics.
+     *
+     * @param constraintType The type of the constraint annotation, {@link Annotation} if unknown.
+     * @param validatedClass The class of the validated value, {@link Void} for the {@code null} value.
+     */
+    public record Key(Class<? extends Annotation> constraintType, Class<?> validatedClass) {
+    }
+
+    /**
+     * Metrics of the constraint type evaluated on the validated class.
+     */
+    public static final class Stats {
+
+        private final LongAdder passed = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LatencyHistogram verifierLatency = new LatencyHistogram();
+
+        private final Map<Class<? extends Throwable>, LongAdder> accessFailures = new ConcurrentHashMap<>();
+
+        private Stats() {
+        }
+
+        /**
+         * @return The count of the passed evaluations.
+         */
+        public long passed() {
+            return passed.sum();
+        }
+
+        /**
+         * @return The count of the failed evaluations.
+         */
+        public long failed() {
+            return failed.sum();
+        }
+
+        /**
+         * @return The latencies of the evaluations.
+         */
+        public LatencyHistogram latency() {
+            return latency;
+        }
+
+        /**
+         * @return The latencies of the verifications of the single fields.
+         */
+        public LatencyHistogram verifierLatency() {
+            return verifierLatency;
+        }
+
+        /**
+         * Provides the count of the fields couldn't be accessed, by the cause of the
+         * {@link FieldAccessor.AccessFieldException}.
+         *
+         * @param cause The class of the cause, {@link Throwable} for the unknown cause.
+         * @return The count.
+         */
+        public long accessFailures(Class<? extends Throwable> cause) {
+            var counter = accessFailures.get(cause);
+            return counter == null ? 0 : counter.sum();
+        }
+
+        /**
+         * @return The counts of the fields couldn't be accessed, by the class of the cause.
+         */
+        public Map<Class<? extends Throwable>, Long> accessFailures() {
+            var counts = new HashMap<Class<? extends Throwable>, Long>();
+            accessFailures.forEach((cause, counter) -> counts.put(cause, counter.sum()));
+            return counts;
+        }
+    }
+
+    private final Map<Class<?>, Map<Class<?>, Stats>> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void onValidated(Class<? extends Annotation> constraintType, Class<?> validatedClass, boolean valid, long elapsedNanos) {
+        var stats = stats(constraintType, validatedClass);
+        (valid ? stats.passed : stats.failed).increment();
+        stats.latency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onAccessFailed(Class<? extends Annotation> constraintType, Class<?> validatedClass, String field, Throwable cause) {
+        var causeClass = cause == null ? Throwable.class : cause.getClass();
+        stats(constraintType, validatedClass).accessFailures.computeIfAbsent(causeClass, c -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onVerified(Class<? extends Annotation> constraintType, Class<?> validatedClass, String field, long elapsedNanos) {
+        stats(constraintType, validatedClass).verifierLatency.record(elapsedNanos);
+    }
+
+    /**
+     * Provides the metrics of the constraint type evaluated on the validated class.
+     *
+     * @param constraintType The type of the constraint annotation, {@code null} if unknown.
+     * @param validatedClass The class of the validated value, {@code null} for the {@code null} value.
+     * @return The metrics, which keep being updated.
+     */
+    public Stats stats(Class<? extends Annotation> constraintType, Class<?> validatedClass) {
+        var byClass = stats.computeIfAbsent(constraintType == null ? Annotation.class : constraintType, t -> new ConcurrentHashMap<>());
+        return byClass.computeIfAbsent(validatedClass == null ? Void.class : validatedClass, c -> new Stats());
+    }
+
+    /**
+     * Iterates all the recorded metrics.
+     *
+     * @param action The action for each metrics.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<Key, Stats> action) {
+        stats.forEach((constraintType, byClass) -> byClass.forEach((validatedClass, stats) ->
+                action.accept(new Key((Class<? extends Annotation>) constraintType, validatedClass), stats)));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.FieldValueMemo;
+
+/**
+ * Scope within which the values of the fields are memoized and shared across the crossing-field constraints, so that
+ * each getter runs only once per validating object, however many constraints refer to the field.
+ * <br>
+ * e.g. {@code b} of the following class is read only once for both {@link Or} constraints and the {@link Xor}.
+ * <pre>{@code
+ * @Or(fields = {"a", "b"})
+ * @Or(fields = {"b", "c"})
+ * @Xor(fields = {"b", "inner.d"})
+ * class Pojo {...}
+ *
+ * try (var scope = ValidationScope.open()) {
+ *     validator.validate(pojo);
+ * }
+ * }</pre>
+ * The values are memoized by the identity of the object, the class of the configured {@link FieldAccessor} and the
+ * path. For the {@link FieldAccessor#isComposable() composable} accessors, the path prefixes are memoized as well, so
+ * that {@code a.b.c} and {@code a.b.d} traverse {@code a.b} only once. The inaccessible fields are NOT memoized.
+ * <br>
+ * The scope is bound to the opening thread and discarded when closed, so the changes made to the objects within the
+ * scope are NOT visible to the validation. The scopes could be nested, and the values are discarded once the outermost
+ * one is closed. Without any scope, the values are never memoized.
+ */
+public final class ValidationScope implements AutoCloseable {
+
+    private final FieldValueMemo memo;
+
+    private boolean closed;
+
+    private ValidationScope(FieldValueMemo memo) {
+        this.memo = memo;
+    }
+
+    /**
+     * Opens the scope on the current thread.
+     *
+     * @return The scope, which should be closed on the same thread.
+     */
+    public static ValidationScope open() {
+        return new ValidationScope(FieldValueMemo.open());
+    }
+
+    /**
+     * Closes the scope. Closing it again takes no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            memo.close();
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.ValidationListeners;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.module.ResolvedModule;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+/**
+ * Warms up the validation of the classes ahead of the first requests, e.g. right after deploying, so that the first
+ * validations of each class don't pay for the reflective lookups, the construction of the components and the cold JIT.
+ * <pre>{@code
+ * var report = ValidationWarmup.of(validator)
+ *         .packages("com.example.dto")
+ *         .iterations(10_000)
+ *         .run();
+ * log.info("Warmed up {} types in {}.", report.types().size(), report.elapsed());
+ * }</pre>
+ * For each class declaring any constraint of this library, on the class or on its fields and methods:
+ * <ul>
+ *     <li>The paths of the crossing-field constraints are resolved and cached by their accessors, and the shareable
+ *     accessors and verifiers are instantiated, see {@link ConstraintPaths}. The paths couldn't be resolved are
+ *     reported as {@link Report#errors()} rather than thrown.</li>
+ *     <li>The lookup tables of the enum-like constraints, e.g. {@link IntEnumValue}, are built.</li>
+ *     <li>The metadata of the class is built by the {@link Validator}, if provided.</li>
+ *     <li>If the {@link #iterations(int) iterations} are positive, the constraints, including {@link Compare}, are
+ *     evaluated repeatedly on the synthetic values, i.e. the valid constants of the enum-like constraints, and the
+ *     instance of the class created by the constructor with no arguments or the canonical constructor of the record
+ *     with the default values. The class couldn't be instantiated is skipped.</li>
+ * </ul>
+ * Any exception thrown while warming up a class, e.g. by its getters, is reported as {@link Report#errors()} as well,
+ * and the warmup goes on with the next class. The registered {@link ValidationListener}s, e.g.
+ * {@link ValidationMetrics}, are NOT notified of the synthetic validations, so they don't count as the real ones.
+ * The packages are scanned from the modules of the boot layer and the class path, including the subpackages. Instances
+ * are immutable and thread-safe.
+ */
+public final class ValidationWarmup {
+
+    private final Validator validator;
+
+    private final List<Class<?>> classes;
+
+    private final List<String> packages;
+
+    private final int iterations;
+
+    private ValidationWarmup(Validator validator, List<Class<?>> classes, List<String> packages, int iterations) {
+        this.validator = validator;
+        this.classes = classes;
+        this.packages = packages;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Creates the warmup of nothing, without the {@link Validator}.
+     *
+     * @return The warmup.
+     */
+    public static ValidationWarmup of() {
+        return new ValidationWarmup(null, List.of(), List.of(), 0);
+    }
+
+    /**
+     * Creates the warmup of nothing, which builds the metadata and runs the synthetic validations by the validator as
+     * well.
+     *
+     * @param validator The validator validating the classes at runtime.
+     * @return The warmup.
+     */
+    public static ValidationWarmup of(Validator validator) {
+        return new ValidationWarmup(Objects.requireNonNull(validator), List.of(), List.of(), 0);
+    }
+
+    /**
+     * Derives the warmup of the classes as well.
+     *
+     * @param classes The validated classes.
+     * @return The derived warmup.
+     */
+    public ValidationWarmup classes(Class<?>... classes) {
+        var merged = new ArrayList<>(this.classes);
+        merged.addAll(Arrays.asList(classes));
+        return new ValidationWarmup(validator, List.copyOf(merged), packages, iterations);
+    }
+
+    /**
+     * Derives the warmup of the classes within the packages and their subpackages as well.
+     *
+     * @param packages The names of the packages, e.g. {@code com.example.dto}.
+     * @return The derived warmup.
+     */
+    public ValidationWarmup packages(String... packages) {
+        var merged = new ArrayList<>(this.packages);
+        merged.addAll(Arrays.asList(packages));
+        return new ValidationWarmup(validator, classes, List.copyOf(merged), iterations);
+    }
+
+    /**
+     * Derives the warmup running the synthetic validations.
+     *
+     * @param iterations The count of the synthetic validations per constraint, or {@code 0} for none.
+     * @return The derived warmup.
+     * @throws IllegalArgumentException Throws if the iterations is negative.
+     */
+    public ValidationWarmup iterations(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Iterations should NOT be negative but " + iterations + ".");
+        }
+        return new ValidationWarmup(validator, classes, packages, iterations);
+    }
+
+    /**
+     * Result of the warmup.
+     *
+     * @param types The classes declaring any constraint of this library, which are warmed up.
+     * @param constraints The count of the constraints warmed up.
+     * @param validations The count of the synthetic validations run.
+     * @param elapsed The time the warmup took.
+     * @param errors The constraints couldn't be resolved, and the classes failed to warm up, which would fail at
+     *               runtime.
+     */
+    public record Report(List<Class<?>> types, int constraints, long validations, Duration elapsed, List<String> errors) {
+    }
+
+    /**
+     * Warms up the classes on the current thread.
+     *
+     * @return The report.
+     * @throws UncheckedIOException Throws if any package couldn't be scanned.
+     */
+    public Report run() {
+        return ValidationListeners.suppressed(this::warmUp);
+    }
+
+    private Report warmUp() {
+        var start = System.nanoTime();
+        var candidates = new LinkedHashSet<Class<?>>(classes);
+        for (var packageName : packages) {
+            candidates.addAll(scan(packageName));
+        }
+        var types = new ArrayList<Class<?>>();
+        var errors = new ArrayList<String>();
+        var constraints = 0;
+        var validations = 0L;
+        for (var type : candidates) {
+            var crossingFields = CrossingFieldsConstraints.of(type);
+            var compares = CrossingFieldsConstraints.of(type, CompareValidator.class);
+            var enumValues = enumValueConstraints(type);
+            if (crossingFields.isEmpty() && enumValues.isEmpty() && compares.isEmpty()) {
+                continue;
+            }
+            types.add(type);
+            constraints += ConstraintPaths.check(type, errors) + enumValues.size();
+            try {
+                if (validator != null) {
+                    validator.getConstraintsForClass(type);
+                }
+                for (var enumValue : enumValues) {
+                    validations += warmUp(enumValue);
+                }
+                if (iterations > 0) {
+                    validations += warmUp(type, crossingFields, compares);
+                }
+            } catch (RuntimeException e) {
+                // E.g. thrown by the getters of the class, or by the validators initialized with the constraints.
+                errors.add(type.getName() + ": Warmup failed by " + e);
+            }
+        }
+        return new Report(List.copyOf(types), constraints, validations, Duration.ofNanos(System.nanoTime() - start), List.copyOf(errors));
+    }
+
+    private long warmUp(Class<?> type, List<Annotation> constraints, List<Annotation> compares) {
+        var instance = instantiate(type);
+        if (instance == null) {
+            return 0;
+        }
+        var validations = 0L;
+        for (var compare : compares) {
+            var compareValidator = new CompareValidator();
+            try {
+                compareValidator.initialize((Compare) compare);
+            } catch (IllegalArgumentException e) {
+                // Reported by the check of the paths.
+                continue;
+            }
+            for (var i = 0; i < iterations; i++) {
+                compareValidator.isValid(instance, null);
+            }
+            validations += iterations;
+        }
+        for (var constraint : constraints) {
+            try {
+                var predicate = CrossingFieldsConstraints.initialize(constraint).bind(type);
+                for (var i = 0; i < iterations; i++) {
+                    predicate.test(instance);
+                }
+                validations += iterations;
+            } catch (IllegalArgumentException | ConstraintDeclarationException e) {
+                // Reported by the check of the paths.
+            }
+        }
+        if (validator != null) {
+            for (var i = 0; i < iterations; i++) {
+                validator.validate(instance);
+            }
+            validations += iterations;
+        }
+        return validations;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private long warmUp(Annotation constraint) {
+        var validatorClass = Arrays.stream(constraint.annotationType().getAnnotation(Constraint.class).validatedBy())
+                .filter(EnumValueValidator.class::isAssignableFrom)
+                .findFirst()
+                .orElseThrow();
+        ConstraintValidator enumValueValidator;
+        try {
+            enumValueValidator = validatorClass.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            return 0;
+        }
+        enumValueValidator.initialize(constraint);
+        if (iterations == 0) {
+            return 0;
+        }
+        var values = values(constraint);
+        for (var i = 0; i < iterations; i++) {
+            enumValueValidator.isValid(values.isEmpty() ? null : values.get(i % values.size()), null);
+        }
+        return iterations;
+    }
+
+    private static List<Object> values(Annotation constraint) {
+        try {
+            var array = constraint.annotationType().getMethod("value").invoke(constraint);
+            var values = new ArrayList<>(Array.getLength(array));
+            for (var i = 0; i < Array.getLength(array); i++) {
+                values.add(Array.get(array, i));
+            }
+            return values;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return List.of();
+        }
+    }
+
+    private static Object instantiate(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            if (type.isRecord()) {
+                var components = type.getRecordComponents();
+                var parameterTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+                var arguments = Arrays.stream(parameterTypes).map(ValidationWarmup::defaultValue).toArray();
+                return type.getDeclaredConstructor(parameterTypes).newInstance(arguments);
+            }
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    /**
+     * Finds the enum-like constraints on the fields and methods declared by the class and its superclasses, including
+     * the type arguments of their types, e.g. {@code List<@IntEnumValue({1, 2}) Integer>}.
+     */
+    private static List<Annotation> enumValueConstraints(Class<?> type) {
+        var constraints = new ArrayList<Annotation>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                for (var field : c.getDeclaredFields()) {
+                    collectEnumValues(field, constraints);
+                    collectEnumValues(field.getAnnotatedType(), constraints);
+                }
+                for (var method : c.getDeclaredMethods()) {
+                    collectEnumValues(method, constraints);
+                    collectEnumValues(method.getAnnotatedReturnType(), constraints);
+                }
+            } catch (LinkageError e) {
+                // The members refer to the classes missing at runtime.
+            }
+        }
+        return constraints;
+    }
+
+    private static void collectEnumValues(AnnotatedElement element, List<Annotation> constraints) {
+        for (var annotation : element.getDeclaredAnnotations()) {
+            var constraint = annotation.annotationType().getAnnotation(Constraint.class);
+            if (constraint != null && Arrays.stream(constraint.validatedBy()).anyMatch(EnumValueValidator.class::isAssignableFrom)
+                    && !constraints.contains(annotation)) {
+                constraints.add(annotation);
+            }
+        }
+        if (element instanceof AnnotatedParameterizedType parameterized) {
+            for (AnnotatedType argument : parameterized.getAnnotatedActualTypeArguments()) {
+                collectEnumValues(argument, constraints);
+            }
+        }
+    }
+
+    private static Set<Class<?>> scan(String packageName) {
+        var classNames = new LinkedHashMap<String, ClassLoader>();
+        var directory = packageName.replace('.', '/');
+        var contextLoader = Thread.currentThread().getContextClassLoader();
+        final var classLoader = contextLoader != null ? contextLoader : ValidationWarmup.class.getClassLoader();
+        try {
+            for (var module : ModuleLayer.boot().configuration().modules()) {
+                if (containsPackage(module, packageName)) {
+                    var moduleLoader = ModuleLayer.boot().findLoader(module.name());
+                    try (var reader = module.reference().open(); var entries = reader.list()) {
+                        entries.filter(entry -> entry.startsWith(directory + "/")).forEach(entry -> addClassName(entry, moduleLoader, classNames));
+                    }
+                }
+            }
+            for (var url : Collections.list(classLoader.getResources(directory))) {
+                if ("file".equals(url.getProtocol())) {
+                    var root = Path.of(url.toURI());
+                    try (Stream<Path> files = Files.walk(root)) {
+                        files.forEach(file -> addClassName(directory + "/" + root.relativize(file).toString().replace('\\', '/'), classLoader, classNames));
+                    }
+                } else if (url.openConnection() instanceof JarURLConnection connection) {
+                    connection.setUseCaches(false);
+                    try (var jar = connection.getJarFile()) {
+                        jar.stream().map(ZipEntry::getName).filter(entry -> entry.startsWith(directory + "/"))
+                                .forEach(entry -> addClassName(entry, classLoader, classNames));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can NOT scan package " + packageName + ".", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Can NOT scan package " + packageName + ".", e);
+        }
+        var types = new LinkedHashSet<Class<?>>();
+        for (var className : classNames.entrySet()) {
+            try {
+                types.add(Class.forName(className.getKey(), false, className.getValue()));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Not loadable by the loader, e.g. the optional dependencies are missing.
+            }
+        }
+        return types;
+    }
+
+    private static boolean containsPackage(ResolvedModule module, String packageName) {
+        return module.reference().descriptor().packages().stream()
+                .anyMatch(p -> p.equals(packageName) || p.startsWith(packageName + "."));
+    }
+
+    private static void addClassName(String entry, ClassLoader loader, Map<String, ClassLoader> classNames) {
+        if (entry.endsWith(".class") && !entry.endsWith("module-info.class") && !entry.endsWith("package-info.class")) {
+            classNames.putIfAbsent(entry.substring(0, entry.length() - ".class".length()).replace('/', '.'), loader);
+        }
+    }
+}
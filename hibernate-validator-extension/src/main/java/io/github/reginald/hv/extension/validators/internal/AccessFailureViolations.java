@@ -0,0 +1,41 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Constraint violations reported when the fields couldn't be accessed, shared by the validators reading the fields
+ * through a {@link io.github.reginald.hv.extension.validators.FieldAccessor}.
+ */
+public final class AccessFailureViolations {
+
+    private AccessFailureViolations() {
+    }
+
+    /**
+     * Provides the constraint violation describing the failure of accessing the field.
+     *
+     * @param field The field couldn't be accessed.
+     * @param context context in which the constraint is evaluated
+     * @param cause The specific exception causing the failure of the accessing.
+     */
+    public static void build(String field, ConstraintValidatorContext context, Throwable cause) {
+        if (cause instanceof NoSuchFieldException) {
+            context.buildConstraintViolationWithTemplate("Field [" + field + "] doesn't exist.")
+                    .addConstraintViolation();
+        } else if (cause instanceof InvocationTargetException) {
+            context.buildConstraintViolationWithTemplate("Access field [" + field + "] with error: " + cause.getMessage())
+                    .addConstraintViolation();
+        } else if (cause instanceof IllegalAccessException) {
+            context.buildConstraintViolationWithTemplate("Can NOT access field [" + field + "]")
+                    .addConstraintViolation();
+        } else if (cause instanceof NoSuchMethodException) {
+            context.buildConstraintViolationWithTemplate("Field [" + field + "] getter method doesn't exist.")
+                    .addConstraintViolation();
+        } else {
+            context.buildConstraintViolationWithTemplate("Access field [" + field + "] with unknown error: " + (cause == null ? "(unknown)" : cause.getMessage()))
+                    .addConstraintViolation();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Comparisons specialized for the classes of the compared values, so that comparing the values of the specialized
+ * classes is a direct comparison of the unboxed primitives or of the concrete classes, without any type dispatch.
+ * <br>
+ * Each class has its own comparison, instead of sharing a single one over {@link Comparable}, which keeps the call
+ * sites of {@code compareTo} monomorphic.
+ */
+public final class Comparisons {
+
+    private static final Set<Class<?>> INTEGRALS = Set.of(Byte.class, Short.class, Integer.class, Long.class);
+
+    private static final Set<Class<?>> NUMERICS = Set.of(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    private static final Set<Class<?>> INSTANTS = Set.of(Instant.class, OffsetDateTime.class, ZonedDateTime.class);
+
+    private Comparisons() {
+    }
+
+    /**
+     * Comparison of two non-null values.
+     */
+    @FunctionalInterface
+    public interface Comparison {
+
+        /**
+         * @return Negative, zero or positive if the left value is less than, equal to or greater than the right one.
+         */
+        int compare(Object left, Object right);
+    }
+
+    /**
+     * Resolves the comparison of the values of the classes.
+     * <br>
+     * The boxed numeric primitives of different classes are compared as {@code long} if both are integral, otherwise as
+     * {@code double}. The instants of different classes are compared on the time-line.
+     *
+     * @param left The class of the left values.
+     * @param right The class of the right values.
+     * @return The comparison, or {@code null} if the values of the classes are NOT comparable.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static Comparison of(Class<?> left, Class<?> right) {
+        if (left == right) {
+            var comparison = sameClass(left);
+            if (comparison != null) {
+                return comparison;
+            }
+        }
+        if (INTEGRALS.contains(left) && INTEGRALS.contains(right)) {
+            return (l, r) -> Long.compare(((Number) l).longValue(), ((Number) r).longValue());
+        }
+        if (NUMERICS.contains(left) && NUMERICS.contains(right)) {
+            return (l, r) -> Double.compare(((Number) l).doubleValue(), ((Number) r).doubleValue());
+        }
+        if (INSTANTS.contains(left) && INSTANTS.contains(right)) {
+            return Comparisons::compareInstants;
+        }
+        if (Comparable.class.isAssignableFrom(left) && (left.isAssignableFrom(right) || right.isAssignableFrom(left))) {
+            return (l, r) -> ((Comparable) l).compareTo(r);
+        }
+        return null;
+    }
+
+    private static Comparison sameClass(Class<?> type) {
+        if (type == Integer.class) {
+            return (l, r) -> Integer.compare((Integer) l, (Integer) r);
+        }
+        if (type == Long.class) {
+            return (l, r) -> Long.compare((Long) l, (Long) r);
+        }
+        if (type == Double.class) {
+            return (l, r) -> Double.compare((Double) l, (Double) r);
+        }
+        if (type == Float.class) {
+            return (l, r) -> Float.compare((Float) l, (Float) r);
+        }
+        if (type == Short.class) {
+            return (l, r) -> Short.compare((Short) l, (Short) r);
+        }
+        if (type == Byte.class) {
+            return (l, r) -> Byte.compare((Byte) l, (Byte) r);
+        }
+        if (type == Character.class) {
+            return (l, r) -> Character.compare((Character) l, (Character) r);
+        }
+        if (type == String.class) {
+            return (l, r) -> ((String) l).compareTo((String) r);
+        }
+        if (type == BigDecimal.class) {
+            return (l, r) -> ((BigDecimal) l).compareTo((BigDecimal) r);
+        }
+        if (type == BigInteger.class) {
+            return (l, r) -> ((BigInteger) l).compareTo((BigInteger) r);
+        }
+        if (type == LocalDate.class) {
+            return (l, r) -> ((LocalDate) l).compareTo((LocalDate) r);
+        }
+        if (type == LocalDateTime.class) {
+            return (l, r) -> ((LocalDateTime) l).compareTo((LocalDateTime) r);
+        }
+        if (type == LocalTime.class) {
+            return (l, r) -> ((LocalTime) l).compareTo((LocalTime) r);
+        }
+        if (type == Instant.class) {
+            return (l, r) -> ((Instant) l).compareTo((Instant) r);
+        }
+        if (type == Duration.class) {
+            return (l, r) -> ((Duration) l).compareTo((Duration) r);
+        }
+        if (type == OffsetDateTime.class) {
+            return (l, r) -> compareInstants(((OffsetDateTime) l).toEpochSecond(), ((OffsetDateTime) l).getNano(),
+                    ((OffsetDateTime) r).toEpochSecond(), ((OffsetDateTime) r).getNano());
+        }
+        if (type == ZonedDateTime.class) {
+            return (l, r) -> compareInstants(((ZonedDateTime) l).toEpochSecond(), ((ZonedDateTime) l).getNano(),
+                    ((ZonedDateTime) r).toEpochSecond(), ((ZonedDateTime) r).getNano());
+        }
+        if (type == Date.class) {
+            return (l, r) -> Long.compare(((Date) l).getTime(), ((Date) r).getTime());
+        }
+        return null;
+    }
+
+    private static int compareInstants(Object left, Object right) {
+        var l = (TemporalAccessor) left;
+        var r = (TemporalAccessor) right;
+        return compareInstants(l.getLong(ChronoField.INSTANT_SECONDS), l.get(ChronoField.NANO_OF_SECOND),
+                r.getLong(ChronoField.INSTANT_SECONDS), r.get(ChronoField.NANO_OF_SECOND));
+    }
+
+    private static int compareInstants(long leftSeconds, int leftNanos, long rightSeconds, int rightNanos) {
+        var compared = Long.compare(leftSeconds, rightSeconds);
+        return compared != 0 ? compared : Integer.compare(leftNanos, rightNanos);
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldPath;
+import io.github.reginald.hv.extension.validators.FieldVerifier;
+import io.github.reginald.hv.extension.validators.NotThreadSafe;
+import io.github.reginald.hv.extension.validators.PojoFieldAccessor;
+import io.github.reginald.hv.extension.validators.ValidationListener;
+import io.github.reginald.hv.extension.validators.ValidationScope;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Predicate;
+
+/**
+ * Base validator for validating fields' values within the target object.
+ * <br>
+ * According to the validation annotation, accesses the values of the designated fields by leveraging the {@link FieldAccessor}
+ * and validates them by leveraging the {@link FieldVerifier}.
+ * <br>
+ * The accessor generated at compile time for the class of the validating object is preferred to the default
+ * {@link PojoFieldAccessor}, see {@link FieldAccess}.
+ * <br>
+ * The registered {@link ValidationListener}s are notified of the evaluations, the access failures and the
+ * verifications. They're looked up on each evaluation, so the listeners registered after the validator is created are
+ * notified as well.
+ * <br>
+ * Within a {@link ValidationScope}, the values of the fields are memoized and shared with the other constraints on the
+ * same object, see {@link FieldAccess#access(FieldValueMemo, Object, FieldPath, FieldAccessor)}.
+ *
+ * @param <A> The specific annotation.
+ */
+public abstract class CrossingFieldsValidator<A extends Annotation> implements ConstraintValidator<A, Object> {
+
+    private FieldPath[] paths;
+
+    private FieldAccess fieldAccess;
+
+    private FieldVerifier sharedVerifier;
+
+    private Class<? extends Annotation> constraintType;
+
+    /**
+     * The latest class of the validating objects, which all the {@link #paths} are resolved against.
+     */
+    private Class<?> resolvedType;
+
+    /**
+     * Provides the fields gonna be validated.
+     *
+     * @return The field's names.
+     */
+    protected abstract String[] fields();
+
+    /**
+     * The {@link FieldAccessor} for accessing the values of the validating fields.
+     *
+     * @return The accessor.
+     */
+    protected abstract Class<? extends FieldAccessor> accessor();
+
+    /**
+     * The {@link FieldVerifier} for verifying the values of the validating fields.
+     *
+     * @return The verifier.
+     */
+    protected abstract Class<? extends FieldVerifier> verifier();
+
+    /**
+     * Compiles the {@link #fields()} and resolves the shareable {@link #accessor()} and {@link #verifier()} instances.
+     * Subclasses should call this method at the end of their own initialization.
+     *
+     * @param constraintAnnotation annotation instance for a given constraint declaration
+     * @see FieldComponentRegistry
+     */
+    @Override
+    public void initialize(A constraintAnnotation) {
+        constraintType = constraintAnnotation.annotationType();
+        paths = FieldPath.compile(fields());
+        fieldAccess = new FieldAccess(accessor());
+        sharedVerifier = FieldComponentRegistry.isShareable(verifier()) ? FieldComponentRegistry.shared(verifier()) : null;
+    }
+
+    /**
+     * Accesses and verifies the fields one by one, and stops as soon as the result is {@link #decide(int, int, int) decided}.
+     * Allocates nothing when all the fields are accessible, as long as the {@link FieldAccessor} and the
+     * {@link FieldVerifier} don't.
+     * <br>
+     * Once any field couldn't be accessed, the validation fails, and the remaining fields are still accessed (without
+     * verifying) for reporting all the inaccessible fields. The fields after the decision are never read, but their
+     * paths are still resolved against the class of the validating object, see {@link FieldAccessor#resolve(Class,
+     * FieldPath)}, so the fields which could never be accessed fail the validation whichever field decides it.
+     *
+     * @param value object to validate
+     * @param context context in which the constraint is evaluated
+     * @return {@inheritDoc}
+     */
+    @Override
+    public final boolean isValid(Object value, ConstraintValidatorContext context) {
+        return check(value, context, resolveAccessor(classOf(value)), resolveVerifier());
+    }
+
+    /**
+     * Binds the evaluation to the class of the validating objects, so that the {@link #accessor()} and the
+     * {@link #verifier()} are resolved only once for evaluating many objects of the class. The evaluation reports no
+     * constraint violation, and the inaccessible fields simply fail it.
+     * <br>
+     * The returned predicate uses the {@link NotThreadSafe} accessor or verifier exclusively, so it should NOT be shared
+     * across threads in that case.
+     *
+     * @param type The class of the validating objects.
+     * @return The predicate evaluating the constraint, accepting the objects of the class.
+     * @see #isValid(Object, ConstraintValidatorContext)
+     */
+    public final Predicate<Object> bind(Class<?> type) {
+        final var accessor = resolveAccessor(type);
+        final var verifier = resolveVerifier();
+        return value -> check(value, null, accessor, verifier);
+    }
+
+    private boolean check(Object value, ConstraintValidatorContext context, FieldAccessor accessor, FieldVerifier verifier) {
+        final var listener = ValidationListeners.listener();
+        if (listener == null) {
+            return evaluate(value, context, accessor, verifier, null);
+        }
+        var start = System.nanoTime();
+        var valid = evaluate(value, context, accessor, verifier, listener);
+        listener.onValidated(constraintType, classOf(value), valid, System.nanoTime() - start);
+        return valid;
+    }
+
+    private boolean evaluate(Object value, ConstraintValidatorContext context, FieldAccessor accessor, FieldVerifier verifier, ValidationListener listener) {
+        final var paths = this.paths;
+        final var memo = FieldValueMemo.current();
+        var validCount = 0;
+        var invalidCount = 0;
+        var accessFailed = false;
+        for (var i = 0; i < paths.length; i++) {
+            var fieldValue = fieldAccess.access(memo, value, paths[i], accessor);
+            if (fieldValue instanceof FieldAccessor.AccessFailure failure) {
+                accessFailed = true;
+                reportAccessFailure(value, paths[i], failure, context, listener);
+                continue;
+            }
+            if (accessFailed) {
+                continue;
+            }
+            if (verify(verifier, value, paths[i].path(), fieldValue, listener)) {
+                validCount++;
+            } else {
+                invalidCount++;
+            }
+            var decision = decide(validCount, invalidCount, paths.length);
+            if (decision != Decision.UNDECIDED) {
+                return isResolved(value, context, accessor, listener, i + 1) && decision == Decision.VALID;
+            }
+        }
+        return !accessFailed && decide(validCount, invalidCount, paths.length) == Decision.VALID;
+    }
+
+    /**
+     * Resolves the paths NOT read after the decision, reporting the ones which could never be accessed. The class is
+     * cached once all the paths are resolved, since the paths read before were resolved by reading them.
+     *
+     * @param from The position of the first path NOT read.
+     * @return {@code true} if none of the paths is known to be inaccessible.
+     */
+    private boolean isResolved(Object value, ConstraintValidatorContext context, FieldAccessor accessor, ValidationListener listener, int from) {
+        var type = classOf(value);
+        if (type == null || type == resolvedType) {
+            return true;
+        }
+        var resolved = true;
+        for (var i = from; i < paths.length; i++) {
+            var failure = accessor.resolve(type, paths[i]);
+            if (failure != null) {
+                resolved = false;
+                reportAccessFailure(value, paths[i], failure, context, listener);
+            }
+        }
+        if (resolved) {
+            resolvedType = type;
+        }
+        return resolved;
+    }
+
+    private void reportAccessFailure(Object value, FieldPath path, FieldAccessor.AccessFailure failure, ConstraintValidatorContext context, ValidationListener listener) {
+        if (listener != null) {
+            listener.onAccessFailed(constraintType, classOf(value), path.path(), failure.cause());
+        }
+        if (context != null) {
+            buildValidatorContextOnAccessFieldException(path.path(), context, failure.cause());
+        }
+    }
+
+    private boolean verify(FieldVerifier verifier, Object value, String field, Object fieldValue, ValidationListener listener) {
+        if (listener == null) {
+            return verifier.verify(value, field, fieldValue);
+        }
+        var start = System.nanoTime();
+        var verified = verifier.verify(value, field, fieldValue);
+        listener.onVerified(constraintType, classOf(value), field, System.nanoTime() - start);
+        return verified;
+    }
+
+    private static Class<?> classOf(Object value) {
+        return value == null ? null : value.getClass();
+    }
+
+    /**
+     * @return The compiled {@link #fields()}.
+     */
+    FieldPath[] paths() {
+        return paths;
+    }
+
+    /**
+     * @return {@code true} if any {@link ValidationListener} is notified of the evaluations.
+     */
+    boolean isListened() {
+        return ValidationListeners.listener() != null;
+    }
+
+    FieldVerifier resolveVerifier() {
+        return sharedVerifier != null ? sharedVerifier : FieldComponentRegistry.create(verifier());
+    }
+
+    FieldAccessor resolveAccessor(Class<?> type) {
+        return fieldAccess.resolveAccessor(type);
+    }
+
+    /**
+     * Provides the constraint violation when the field couldn't be accessed, i.e. the {@link FieldAccessor.AccessFailure}
+     * is returned.
+     *
+     * @param field The field couldn't be accessed.
+     * @param context context in which the constraint is evaluated
+     * @param cause The specific exception causing the failure of the accessing.
+     */
+    protected void buildValidatorContextOnAccessFieldException(String field, ConstraintValidatorContext context, Throwable cause) {
+        AccessFailureViolations.build(field, context, cause);
+    }
+
+    /**
+     * Decides the validation result by the verified fields so far. Invoked after each field being verified.
+     *
+     * @param validCount The count of the valid fields so far.
+     * @param invalidCount The count of the invalid fields so far.
+     * @param fieldCount The count of all the fields gonna be validated.
+     * @return The validation result, or {@link Decision#UNDECIDED} if the remaining fields should be verified. Should
+     * NOT be {@link Decision#UNDECIDED} once all the fields are verified.
+     */
+    protected abstract Decision decide(int validCount, int invalidCount, int fieldCount);
+
+    /**
+     * Result of {@link #decide(int, int, int)}.
+     */
+    protected enum Decision {
+        VALID,
+        INVALID,
+        UNDECIDED;
+
+        /**
+         * Decides by the final result if all the fields are verified, otherwise undecided.
+         *
+         * @param validCount The count of the valid fields so far.
+         * @param invalidCount The count of the invalid fields so far.
+         * @param fieldCount The count of all the fields.
+         * @param valid The final result when all the fields are verified.
+         * @return The decision.
+         */
+        public static Decision whenAllVerified(int validCount, int invalidCount, int fieldCount, boolean valid) {
+            if (validCount + invalidCount < fieldCount) {
+                return UNDECIDED;
+            }
+            return valid ? VALID : INVALID;
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldPath;
+import io.github.reginald.hv.extension.validators.PojoFieldAccessor;
+import io.github.reginald.hv.extension.validators.ValidationScope;
+
+/**
+ * Access to the fields through the configured class of {@link FieldAccessor}, shared by the validators reading the
+ * fields of the validating objects.
+ * <br>
+ * The accessor generated at compile time for the class of the validating object is preferred to the default
+ * {@link PojoFieldAccessor}, see {@link GeneratedFieldAccessors}. Within a {@link ValidationScope}, the values of the
+ * fields and their prefixes are memoized and shared with the other constraints on the same object, see
+ * {@link FieldValueMemo}.
+ */
+public final class FieldAccess {
+
+    private final Class<? extends FieldAccessor> accessorClass;
+
+    private final FieldAccessor sharedAccessor;
+
+    /**
+     * @param accessorClass The configured class of the accessor.
+     */
+    public FieldAccess(Class<? extends FieldAccessor> accessorClass) {
+        this.accessorClass = accessorClass;
+        this.sharedAccessor = FieldComponentRegistry.isShareable(accessorClass) ? FieldComponentRegistry.shared(accessorClass) : null;
+    }
+
+    /**
+     * Resolves the accessor of the objects of the class, i.e. the generated one if any, the shared one if shareable,
+     * or a new one otherwise.
+     *
+     * @param type The class of the validating objects, or {@code null} if unknown.
+     * @return The accessor.
+     */
+    public FieldAccessor resolveAccessor(Class<?> type) {
+        if (accessorClass == PojoFieldAccessor.class && type != null) {
+            var generated = GeneratedFieldAccessors.find(type);
+            if (generated != null) {
+                return generated;
+            }
+        }
+        return sharedAccessor != null ? sharedAccessor : FieldComponentRegistry.create(accessorClass);
+    }
+
+    /**
+     * Accesses the field, through the memo if any scope is opened. Reuses the value of the longest memoized prefix if
+     * the accessor is composable, and memoizes the value of every prefix traversed. The failures are NOT memoized.
+     *
+     * @param memo The memo of the current thread, or {@code null} if no scope is opened.
+     * @param value The validating object.
+     * @param path The compiled path of the field.
+     * @param accessor The accessor resolved for the class of the validating object.
+     * @return The value, or the {@link FieldAccessor.AccessFailure}.
+     */
+    public Object access(FieldValueMemo memo, Object value, FieldPath path, FieldAccessor accessor) {
+        if (memo == null) {
+            return accessor.accessValueOrFailure(value, path);
+        }
+        var values = memo.values(value, accessorClass);
+        var memoized = values.getOrDefault(path.path(), FieldValueMemo.ABSENT);
+        if (memoized != FieldValueMemo.ABSENT) {
+            return memoized;
+        }
+        if (!accessor.isComposable()) {
+            var fieldValue = accessor.accessValueOrFailure(value, path);
+            if (!(fieldValue instanceof FieldAccessor.AccessFailure)) {
+                values.put(path.path(), fieldValue);
+            }
+            return fieldValue;
+        }
+        var from = 0;
+        Object fieldValue = value;
+        for (var length = path.length() - 1; length > 0; length--) {
+            memoized = values.getOrDefault(path.prefix(length), FieldValueMemo.ABSENT);
+            if (memoized != FieldValueMemo.ABSENT) {
+                from = length;
+                fieldValue = memoized;
+                break;
+            }
+        }
+        for (var i = from; i < path.length() && fieldValue != null; i++) {
+            fieldValue = (i == 0 ? accessor : resolveAccessor(fieldValue.getClass())).accessValueOrFailure(fieldValue, path.step(i));
+            if (fieldValue instanceof FieldAccessor.AccessFailure) {
+                return fieldValue;
+            }
+            values.put(path.prefix(i + 1), fieldValue);
+        }
+        if (fieldValue == null) {
+            values.put(path.path(), null);
+        }
+        return fieldValue;
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldComponentProvider;
+import io.github.reginald.hv.extension.validators.NotThreadSafe;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry resolving the instances of {@link FieldAccessor} and
+ * {@link io.github.reginald.hv.extension.validators.FieldVerifier} implementations.
+ * <br>
+ * The instances are obtained from the {@link FieldComponentProvider}s first, or created by the constructor with no
+ * arguments. Except for the implementations annotated with {@link NotThreadSafe}, each implementation is resolved only
+ * once and shared afterward.
+ * <br>
+ * The providers should be registered before the validators are initialized. Registering or unregistering any provider
+ * afterward affects the instances resolved afterward only, while the validators initialized before keep the shared
+ * instances they have resolved.
+ */
+public final class FieldComponentRegistry {
+
+    private static final List<FieldComponentProvider> PROVIDERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * The shared instance of each implementation, along with the {@link #generation} of the providers resolving it.
+     */
+    private static final ClassValue<AtomicReference<Shared>> SHARED = new ClassValue<>() {
+
+        @Override
+        protected AtomicReference<Shared> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * Incremented whenever the providers change, discarding the shared instances resolved before.
+     */
+    private static volatile int generation;
+
+    static {
+        ServiceLoader.load(FieldComponentProvider.class, FieldComponentRegistry.class.getClassLoader()).forEach(PROVIDERS::add);
+    }
+
+    private FieldComponentRegistry() {
+    }
+
+    /**
+     * Registers the provider, which takes precedence over the providers registered before. The shared instances resolved
+     * before are discarded, but NOT the ones already held by the initialized validators.
+     *
+     * @param provider The provider.
+     */
+    public static synchronized void register(FieldComponentProvider provider) {
+        PROVIDERS.add(0, Objects.requireNonNull(provider));
+        generation++;
+    }
+
+    /**
+     * Unregisters the provider registered before. The shared instances resolved before are discarded, but NOT the ones
+     * already held by the initialized validators.
+     *
+     * @param provider The provider.
+     * @return {@code true} if the provider was registered.
+     */
+    public static synchronized boolean unregister(FieldComponentProvider provider) {
+        if (!PROVIDERS.remove(provider)) {
+            return false;
+        }
+        generation++;
+        return true;
+    }
+
+    /**
+     * Determines whether the instance of the implementation could be shared.
+     *
+     * @param type The implementation class.
+     * @return {@code false} if the implementation is annotated with {@link NotThreadSafe}.
+     */
+    public static boolean isShareable(Class<?> type) {
+        return !type.isAnnotationPresent(NotThreadSafe.class);
+    }
+
+    /**
+     * Provides the shared instance of the implementation, which is resolved at the first time.
+     *
+     * @param type The implementation class, which should be {@link #isShareable(Class) shareable}.
+     * @param <T> The implementation type.
+     * @return The shared instance.
+     * @throws IllegalArgumentException Throws if the instance can NOT be created.
+     */
+    public static <T> T shared(Class<T> type) {
+        var reference = SHARED.get(type);
+        var current = generation;
+        var shared = reference.get();
+        if (shared == null || shared.generation() != current) {
+            synchronized (reference) {
+                shared = reference.get();
+                if (shared == null || shared.generation() != current) {
+                    shared = new Shared(create(type), current);
+                    reference.set(shared);
+                }
+            }
+        }
+        return type.cast(shared.instance());
+    }
+
+    /**
+     * Resolves a new instance of the implementation.
+     *
+     * @param type The implementation class.
+     * @param <T> The implementation type.
+     * @return The instance obtained from the providers, or created by the constructor with no arguments.
+     * @throws IllegalArgumentException Throws if the instance can NOT be created.
+     */
+    public static <T> T create(Class<T> type) {
+        for (var provider : PROVIDERS) {
+            var instance = provider.provide(type);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            var kind = FieldAccessor.class.isAssignableFrom(type) ? "FieldAccessor" : "FieldVerifier";
+            throw new IllegalArgumentException(kind + " " + type.getName() + " can NOT be initialized with no argument.", e);
+        }
+    }
+
+    private record Shared(Object instance, int generation) {
+    }
+}
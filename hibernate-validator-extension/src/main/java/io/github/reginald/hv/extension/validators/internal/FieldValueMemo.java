@@ -0,0 +1,77 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.ValidationScope;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Values of the fields accessed within the {@link ValidationScope} of the current thread, per validating object (by
+ * identity), the class of the configured accessor, and the path or the path prefix.
+ * <br>
+ * Nothing is looked up until any scope is opened for the first time, so the validations outside any scope pay only a
+ * volatile read.
+ */
+public final class FieldValueMemo {
+
+    /**
+     * Marker of the path not memoized yet, since {@code null} is a valid value.
+     */
+    public static final Object ABSENT = new Object();
+
+    private static final ThreadLocal<FieldValueMemo> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean opened;
+
+    private final Map<Object, Map<Class<?>, Map<String, Object>>> values = new IdentityHashMap<>();
+
+    private int depth;
+
+    private FieldValueMemo() {
+    }
+
+    /**
+     * Opens the scope of the current thread, or enters the scope already opened.
+     *
+     * @return The memo of the current thread.
+     */
+    public static FieldValueMemo open() {
+        opened = true;
+        var memo = CURRENT.get();
+        if (memo == null) {
+            memo = new FieldValueMemo();
+            CURRENT.set(memo);
+        }
+        memo.depth++;
+        return memo;
+    }
+
+    /**
+     * Leaves the scope, and discards the values once the outermost scope is left.
+     */
+    public void close() {
+        if (--depth == 0) {
+            values.clear();
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @return The memo of the current thread, or {@code null} if no scope is opened.
+     */
+    public static FieldValueMemo current() {
+        return opened ? CURRENT.get() : null;
+    }
+
+    /**
+     * Provides the memoized values of the object accessed by the specific accessor.
+     *
+     * @param target The validating object.
+     * @param accessorType The class of the configured accessor.
+     * @return The mutable values by the path or the path prefix, {@link #ABSENT} if not memoized.
+     */
+    public Map<String, Object> values(Object target, Class<?> accessorType) {
+        return values.computeIfAbsent(target, t -> new HashMap<>()).computeIfAbsent(accessorType, t -> new HashMap<>());
+    }
+}
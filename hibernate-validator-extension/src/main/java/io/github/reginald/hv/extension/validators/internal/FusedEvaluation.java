@@ -0,0 +1,259 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+import io.github.reginald.hv.extension.validators.FieldPath;
+import io.github.reginald.hv.extension.validators.FieldVerifier;
+import io.github.reginald.hv.extension.validators.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Evaluation plan fusing the crossing-field constraints of one class, so that each distinct field is read only once
+ * and each distinct verification is made only once per object, however many constraints refer to it.
+ * <br>
+ * The fields of all the constraints are deduplicated into the value slots by the class of the accessor and the path,
+ * and the verifications into the check slots by the value slot and the class of the verifier. Each constraint is then
+ * a sequence of check slots, evaluated in the declared order with the same short circuit as
+ * {@link CrossingFieldsValidator#isValid(Object, jakarta.validation.ConstraintValidatorContext)}. The slots are filled
+ * lazily, so the fields after every decision are still never read, while their paths are resolved against the class
+ * once when planning, and the constraints with any path which could never be accessed are always invalid.
+ * <br>
+ * The plan is immutable and thread-safe, while each {@link Evaluator} holds the slots of the object being evaluated.
+ */
+public final class FusedEvaluation {
+
+    private final Class<?> type;
+
+    private final CrossingFieldsValidator<?>[] validators;
+
+    /**
+     * The validator resolving the accessor of each value slot.
+     */
+    private final int[] valueOwners;
+
+    private final FieldPath[] valuePaths;
+
+    /**
+     * The validator resolving the verifier of each check slot.
+     */
+    private final int[] checkOwners;
+
+    private final int[] checkValues;
+
+    private final String[] checkFields;
+
+    /**
+     * The check slots of each constraint, in the order of its fields.
+     */
+    private final int[][] constraintChecks;
+
+    /**
+     * Whether all the paths of each constraint are resolved against the class.
+     */
+    private final boolean[] constraintResolved;
+
+    private FusedEvaluation(Class<?> type, CrossingFieldsValidator<?>[] validators, int[] valueOwners, FieldPath[] valuePaths,
+                            int[] checkOwners, int[] checkValues, String[] checkFields, int[][] constraintChecks,
+                            boolean[] constraintResolved) {
+        this.type = type;
+        this.validators = validators;
+        this.valueOwners = valueOwners;
+        this.valuePaths = valuePaths;
+        this.checkOwners = checkOwners;
+        this.checkValues = checkValues;
+        this.checkFields = checkFields;
+        this.constraintChecks = constraintChecks;
+        this.constraintResolved = constraintResolved;
+    }
+
+    /**
+     * Plans the fused evaluation of the initialized validators.
+     *
+     * @param type The class of the validating objects.
+     * @param validators The initialized validators of the constraints.
+     * @return The plan, or {@code null} if the validators can NOT be fused, i.e. any {@link
+     * io.github.reginald.hv.extension.validators.ValidationListener} expects to be notified of each of them.
+     */
+    public static FusedEvaluation of(Class<?> type, List<? extends CrossingFieldsValidator<?>> validators) {
+        for (var validator : validators) {
+            if (validator.isListened()) {
+                return null;
+            }
+        }
+        var valueSlots = new HashMap<ValueKey, Integer>();
+        var checkSlots = new HashMap<CheckKey, Integer>();
+        var valueOwners = new ArrayList<Integer>();
+        var valuePaths = new ArrayList<FieldPath>();
+        var checkOwners = new ArrayList<Integer>();
+        var checkValues = new ArrayList<Integer>();
+        var checkFields = new ArrayList<String>();
+        var constraintChecks = new int[validators.size()][];
+        var constraintResolved = new boolean[validators.size()];
+        for (var v = 0; v < validators.size(); v++) {
+            var validator = validators.get(v);
+            var accessor = validator.resolveAccessor(type);
+            var accessorType = accessor.getClass();
+            var verifierType = validator.verifier();
+            var paths = validator.paths();
+            var checks = new int[paths.length];
+            for (var i = 0; i < paths.length; i++) {
+                final var owner = v;
+                final var path = paths[i];
+                int value = valueSlots.computeIfAbsent(new ValueKey(accessorType, path.path()), key -> {
+                    valueOwners.add(owner);
+                    valuePaths.add(path);
+                    return valuePaths.size() - 1;
+                });
+                checks[i] = checkSlots.computeIfAbsent(new CheckKey(value, verifierType), key -> {
+                    checkOwners.add(owner);
+                    checkValues.add(key.value());
+                    checkFields.add(path.path());
+                    return checkFields.size() - 1;
+                });
+            }
+            constraintChecks[v] = checks;
+            constraintResolved[v] = Arrays.stream(paths).allMatch(path -> accessor.resolve(type, path) == null);
+        }
+        return new FusedEvaluation(type, validators.toArray(CrossingFieldsValidator<?>[]::new),
+                valueOwners.stream().mapToInt(Integer::intValue).toArray(), valuePaths.toArray(FieldPath[]::new),
+                checkOwners.stream().mapToInt(Integer::intValue).toArray(), checkValues.stream().mapToInt(Integer::intValue).toArray(),
+                checkFields.toArray(String[]::new), constraintChecks, constraintResolved);
+    }
+
+    /**
+     * @return The count of the distinct fields read per object.
+     */
+    public int valueSlots() {
+        return valuePaths.length;
+    }
+
+    /**
+     * @return The count of the distinct verifications per object.
+     */
+    public int checkSlots() {
+        return checkFields.length;
+    }
+
+    /**
+     * Creates the evaluator holding its own slots. The {@link NotThreadSafe} accessors and verifiers are instantiated
+     * for the evaluator exclusively.
+     *
+     * @return The evaluator, which should NOT be shared across threads.
+     */
+    public Evaluator evaluator() {
+        return new Evaluator();
+    }
+
+    /**
+     * Evaluates the constraints of one object at a time.
+     */
+    public final class Evaluator {
+
+        private final FieldAccessor[] accessors = new FieldAccessor[valuePaths.length];
+
+        private final FieldVerifier[] verifiers = new FieldVerifier[checkFields.length];
+
+        private final Object[] values = new Object[valuePaths.length];
+
+        /**
+         * The epoch when each value slot was read, negated if the field couldn't be accessed.
+         */
+        private final int[] valueEpochs = new int[valuePaths.length];
+
+        /**
+         * The epoch when each check slot was verified, negated if the field is invalid.
+         */
+        private final int[] checkEpochs = new int[checkFields.length];
+
+        private Object object;
+
+        private int epoch;
+
+        private Evaluator() {
+            for (var i = 0; i < accessors.length; i++) {
+                accessors[i] = validators[valueOwners[i]].resolveAccessor(type);
+            }
+            for (var i = 0; i < verifiers.length; i++) {
+                verifiers[i] = validators[checkOwners[i]].resolveVerifier();
+            }
+        }
+
+        /**
+         * Starts evaluating the object, discarding the slots of the previous one.
+         *
+         * @param object The non-null validating object.
+         */
+        public void reset(Object object) {
+            this.object = object;
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(valueEpochs, 0);
+                Arrays.fill(checkEpochs, 0);
+                epoch = 1;
+            }
+        }
+
+        /**
+         * Evaluates the constraint on the current object. The inaccessible fields simply fail it.
+         *
+         * @param constraint The index of the constraint, in the order of the validators planned.
+         * @return {@code true} if valid.
+         */
+        public boolean isValid(int constraint) {
+            var validator = validators[constraint];
+            var checks = constraintChecks[constraint];
+            var validCount = 0;
+            var invalidCount = 0;
+            for (var check : checks) {
+                var verified = checkEpochs[check];
+                if (verified != epoch && verified != -epoch) {
+                    verified = verify(check);
+                    if (verified == 0) {
+                        return false;
+                    }
+                }
+                if (verified > 0) {
+                    validCount++;
+                } else {
+                    invalidCount++;
+                }
+                var decision = validator.decide(validCount, invalidCount, checks.length);
+                if (decision != CrossingFieldsValidator.Decision.UNDECIDED) {
+                    return decision == CrossingFieldsValidator.Decision.VALID && constraintResolved[constraint];
+                }
+            }
+            return validator.decide(validCount, invalidCount, checks.length) == CrossingFieldsValidator.Decision.VALID;
+        }
+
+        /**
+         * @return The epoch, negated if invalid, or {@code 0} if the field couldn't be accessed.
+         */
+        private int verify(int check) {
+            var slot = checkValues[check];
+            var read = valueEpochs[slot];
+            if (read == -epoch) {
+                return 0;
+            }
+            if (read != epoch) {
+                var value = accessors[slot].accessValueOrFailure(object, valuePaths[slot]);
+                if (value instanceof FieldAccessor.AccessFailure) {
+                    valueEpochs[slot] = -epoch;
+                    return 0;
+                }
+                values[slot] = value;
+                valueEpochs[slot] = epoch;
+            }
+            var verified = verifiers[check].verify(object, checkFields[check], values[slot]) ? epoch : -epoch;
+            checkEpochs[check] = verified;
+            return verified;
+        }
+    }
+
+    private record ValueKey(Class<?> accessorType, String path) {
+    }
+
+    private record CheckKey(int value, Class<?> verifierType) {
+    }
+}
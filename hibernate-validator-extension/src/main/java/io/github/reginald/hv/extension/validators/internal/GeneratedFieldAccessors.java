@@ -0,0 +1,69 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.FieldAccessor;
+
+import java.util.Optional;
+
+/**
+ * Registry of the {@link FieldAccessor}s generated at compile time by the {@code hibernate-validator-extension-processor}.
+ * <br>
+ * The accessor generated for class {@code com.example.Outer$Pojo} is named {@code com.example.Outer_Pojo_FieldAccessor}.
+ * The lookup happens only once per class, no matter whether the generated accessor exists or not.
+ * <br>
+ * <i>The package of the generated accessor (which is the package of the validated class) should be exported to this
+ * module when using JPMS, otherwise the generated accessor is ignored.</i>
+ */
+public final class GeneratedFieldAccessors {
+
+    /**
+     * Suffix of the generated accessor's class name. Keep consistent with the processor.
+     */
+    public static final String SUFFIX = "_FieldAccessor";
+
+    private static final ClassValue<Optional<FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<FieldAccessor> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private GeneratedFieldAccessors() {
+    }
+
+    /**
+     * Finds the generated accessor of the specific class.
+     *
+     * @param clazz The class of the validating object.
+     * @return The generated accessor, or {@code null} if not exists.
+     */
+    public static FieldAccessor find(Class<?> clazz) {
+        return ACCESSORS.get(clazz).orElse(null);
+    }
+
+    /**
+     * Provides the name of the accessor generated for the specific class.
+     *
+     * @param clazz The class of the validating object.
+     * @return The full name of the generated accessor.
+     */
+    public static String accessorName(Class<?> clazz) {
+        var packageName = clazz.getPackageName();
+        var flatName = packageName.isEmpty() ? clazz.getName() : clazz.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + flatName.replace('$', '_') + SUFFIX;
+    }
+
+    private static FieldAccessor load(Class<?> clazz) {
+        if (clazz.isArray() || clazz.isPrimitive() || clazz.isHidden()) {
+            return null;
+        }
+        try {
+            var accessorClass = Class.forName(accessorName(clazz), true, clazz.getClassLoader());
+            if (!FieldAccessor.class.isAssignableFrom(accessorClass)) {
+                return null;
+            }
+            return (FieldAccessor) accessorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of {@code int} values, looking up without boxing or allocation.
+ * <br>
+ * The representation is chosen by the distribution of the values once when building:
+ * <ul>
+ *     <li>A bitmap for the values within a compact range.</li>
+ *     <li>A sorted array searched by branchless binary search for small sets.</li>
+ *     <li>An open-addressing hash table for large sparse sets.</li>
+ * </ul>
+ * The sets of the same values are shared through {@link ValueSets.Cache}.
+ */
+public abstract class IntValueSet {
+
+    /**
+     * Max count of values kept in the sorted array.
+     */
+    static final int SORTED_THRESHOLD = 32;
+
+    /**
+     * Max bits per value allowed by the bitmap.
+     */
+    static final int BITS_PER_VALUE = 32;
+
+    /**
+     * The bitmap is always allowed for the range within this size, no matter how sparse the values are.
+     */
+    static final int MIN_BITMAP_RANGE = 256;
+
+    private static final ValueSets.Cache<IntValueSet> SHARED = new ValueSets.Cache<>();
+
+    private IntValueSet() {
+    }
+
+    /**
+     * Provides the set of the values, sharing the one built before from the identical values if still cached.
+     *
+     * @param values The values, which could be unsorted or duplicated. Not modified.
+     * @return The set containing the values.
+     */
+    public static IntValueSet of(int[] values) {
+        var copy = values.clone();
+        return SHARED.get(copy, () -> build(copy));
+    }
+
+    private static IntValueSet build(int[] values) {
+        var sorted = Arrays.stream(values).sorted().distinct().toArray();
+        if (sorted.length == 0) {
+            return new Sorted(sorted);
+        }
+        var range = (long) sorted[sorted.length - 1] - sorted[0] + 1;
+        if (range <= Math.max(MIN_BITMAP_RANGE, (long) sorted.length * BITS_PER_VALUE)) {
+            return new Bitmap(sorted, (int) range);
+        }
+        if (sorted.length <= SORTED_THRESHOLD) {
+            return new Sorted(sorted);
+        }
+        return new Hashed(sorted);
+    }
+
+    /**
+     * Determines whether the value is in the set.
+     *
+     * @param value The value.
+     * @return {@code true} if the set contains the value.
+     */
+    public abstract boolean contains(int value);
+
+    static final class Bitmap extends IntValueSet {
+
+        private final int min;
+
+        private final int range;
+
+        private final long[] bits;
+
+        private Bitmap(int[] sorted, int range) {
+            this.min = sorted[0];
+            this.range = range;
+            this.bits = new long[(range + 63) >>> 6];
+            for (var value : sorted) {
+                var offset = value - min;
+                bits[offset >>> 6] |= 1L << offset;
+            }
+        }
+
+        @Override
+        public boolean contains(int value) {
+            var offset = (long) value - min;
+            return offset >= 0 && offset < range && (bits[(int) (offset >>> 6)] & (1L << offset)) != 0;
+        }
+    }
+
+    static final class Sorted extends IntValueSet {
+
+        private final int[] values;
+
+        private Sorted(int[] sorted) {
+            this.values = sorted;
+        }
+
+        @Override
+        public boolean contains(int value) {
+            return ValueSets.contains(values, value);
+        }
+    }
+
+    static final class Hashed extends IntValueSet {
+
+        private final int[] table;
+
+        private final int mask;
+
+        private final boolean containsZero;
+
+        private Hashed(int[] sorted) {
+            var capacity = Integer.highestOneBit(sorted.length * 2 - 1) << 1;
+            this.table = new int[capacity];
+            this.mask = capacity - 1;
+            var zero = false;
+            for (var value : sorted) {
+                if (value == 0) {
+                    zero = true;
+                    continue;
+                }
+                var index = hash(value) & mask;
+                while (table[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+            this.containsZero = zero;
+        }
+
+        @Override
+        public boolean contains(int value) {
+            if (value == 0) {
+                return containsZero;
+            }
+            var index = hash(value) & mask;
+            int candidate;
+            while ((candidate = table[index]) != 0) {
+                if (candidate == value) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(int value) {
+            var h = value * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
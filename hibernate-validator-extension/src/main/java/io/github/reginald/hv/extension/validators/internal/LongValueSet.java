@@ -0,0 +1,160 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of {@code long} values, looking up without boxing or allocation.
+ * <br>
+ * The representation is chosen by the distribution of the values once when building:
+ * <ul>
+ *     <li>A bitmap for the values within a compact range.</li>
+ *     <li>A sorted array searched by branchless binary search for small sets.</li>
+ *     <li>An open-addressing hash table for large sparse sets.</li>
+ * </ul>
+ * The sets of the identical values are built once while cached, see {@link ValueSets.Cache}.
+ */
+public abstract class LongValueSet {
+
+    /**
+     * Max count of values kept in the sorted array.
+     */
+    static final int SORTED_THRESHOLD = 64;
+
+    /**
+     * Max bits per value allowed by the bitmap.
+     */
+    static final int BITS_PER_VALUE = 32;
+
+    /**
+     * The bitmap is always allowed for the range within this size, no matter how sparse the values are.
+     */
+    static final int MIN_BITMAP_RANGE = 256;
+
+    private static final ValueSets.Cache<LongValueSet> SHARED = new ValueSets.Cache<>();
+
+    private LongValueSet() {
+    }
+
+    /**
+     * Provides the set of the values, sharing the one built before from the identical values if still cached.
+     *
+     * @param values The values, which could be unsorted or duplicated. Not modified.
+     * @return The set containing the values.
+     */
+    public static LongValueSet of(long[] values) {
+        var copy = values.clone();
+        return SHARED.get(copy, () -> build(copy));
+    }
+
+    private static LongValueSet build(long[] values) {
+        var sorted = Arrays.stream(values).sorted().distinct().toArray();
+        if (sorted.length == 0) {
+            return new Sorted(sorted);
+        }
+        // The difference never overflows as unsigned since max >= min.
+        var span = sorted[sorted.length - 1] - sorted[0];
+        if (Long.compareUnsigned(span, Math.max(MIN_BITMAP_RANGE, (long) sorted.length * BITS_PER_VALUE) - 1) <= 0) {
+            return new Bitmap(sorted, (int) span + 1);
+        }
+        if (sorted.length <= SORTED_THRESHOLD) {
+            return new Sorted(sorted);
+        }
+        return new Hashed(sorted);
+    }
+
+    /**
+     * Determines whether the value is in the set.
+     *
+     * @param value The value.
+     * @return {@code true} if the set contains the value.
+     */
+    public abstract boolean contains(long value);
+
+    static final class Bitmap extends LongValueSet {
+
+        private final long min;
+
+        private final int range;
+
+        private final long[] bits;
+
+        private Bitmap(long[] sorted, int range) {
+            this.min = sorted[0];
+            this.range = range;
+            this.bits = new long[(range + 63) >>> 6];
+            for (var value : sorted) {
+                var offset = (int) (value - min);
+                bits[offset >>> 6] |= 1L << offset;
+            }
+        }
+
+        @Override
+        public boolean contains(long value) {
+            var offset = value - min;
+            return Long.compareUnsigned(offset, range) < 0 && (bits[(int) (offset >>> 6)] & (1L << offset)) != 0;
+        }
+    }
+
+    static final class Sorted extends LongValueSet {
+
+        private final long[] values;
+
+        private Sorted(long[] sorted) {
+            this.values = sorted;
+        }
+
+        @Override
+        public boolean contains(long value) {
+            return ValueSets.contains(values, value);
+        }
+    }
+
+    static final class Hashed extends LongValueSet {
+
+        private final long[] table;
+
+        private final int mask;
+
+        private final boolean containsZero;
+
+        private Hashed(long[] sorted) {
+            var capacity = Integer.highestOneBit(sorted.length * 2 - 1) << 1;
+            this.table = new long[capacity];
+            this.mask = capacity - 1;
+            var zero = false;
+            for (var value : sorted) {
+                if (value == 0) {
+                    zero = true;
+                    continue;
+                }
+                var index = hash(value) & mask;
+                while (table[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+            this.containsZero = zero;
+        }
+
+        @Override
+        public boolean contains(long value) {
+            if (value == 0) {
+                return containsZero;
+            }
+            var index = hash(value) & mask;
+            long candidate;
+            while ((candidate = table[index]) != 0) {
+                if (candidate == value) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(long value) {
+            var h = value * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
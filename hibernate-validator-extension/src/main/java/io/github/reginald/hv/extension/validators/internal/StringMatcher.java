@@ -0,0 +1,172 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import java.util.Arrays;
+
+/**
+ * Immutable matcher determining whether a string is one of the constants, looking up without allocation.
+ * <br>
+ * The matching could optionally ignore the case, in the same way as {@link String#equalsIgnoreCase(String)}, and
+ * ignore the leading and trailing whitespaces, in the same way as {@link String#trim()}. Neither of them creates the
+ * folded or trimmed copy of the matching string, the folding and trimming are applied to the constants once when
+ * building, and to the matching string on the fly.
+ * <br>
+ * The representation is chosen by the count of the constants once when building:
+ * <ul>
+ *     <li>A linear scan filtered by the length first for small sets.</li>
+ *     <li>An open-addressing hash table keyed by the folded hash for large sets.</li>
+ * </ul>
+ */
+public abstract class StringMatcher {
+
+    /**
+     * Max count of constants scanned linearly.
+     */
+    static final int LINEAR_THRESHOLD = 8;
+
+    final boolean ignoreCase;
+
+    final boolean trim;
+
+    private StringMatcher(boolean ignoreCase, boolean trim) {
+        this.ignoreCase = ignoreCase;
+        this.trim = trim;
+    }
+
+    /**
+     * Builds the matcher.
+     *
+     * @param values     The constants, which could be duplicated.
+     * @param ignoreCase Whether to ignore the case when matching.
+     * @param trim       Whether to ignore the leading and trailing whitespaces when matching.
+     * @return The matcher of the constants.
+     */
+    public static StringMatcher of(String[] values, boolean ignoreCase, boolean trim) {
+        var keys = Arrays.stream(values).map(value -> trim ? value.trim() : value).distinct().toArray(String[]::new);
+        if (keys.length <= LINEAR_THRESHOLD) {
+            return new Linear(keys, ignoreCase, trim);
+        }
+        return new Hashed(keys, ignoreCase, trim);
+    }
+
+    /**
+     * Determines whether the value matches any of the constants.
+     *
+     * @param value The value, never {@code null}.
+     * @return {@code true} if the value matches.
+     */
+    public boolean matches(String value) {
+        var start = 0;
+        var end = value.length();
+        if (trim) {
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (start < end && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        return matches(value, start, end - start);
+    }
+
+    abstract boolean matches(String value, int offset, int length);
+
+    final boolean regionEquals(String key, String value, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        if (ignoreCase) {
+            return key.regionMatches(true, 0, value, offset, length);
+        }
+        // The intrinsic equals is much faster than comparing the region char by char.
+        return length == value.length() ? key.equals(value) : key.regionMatches(0, value, offset, length);
+    }
+
+    static final class Linear extends StringMatcher {
+
+        private final String[] keys;
+
+        private Linear(String[] keys, boolean ignoreCase, boolean trim) {
+            super(ignoreCase, trim);
+            this.keys = keys;
+        }
+
+        @Override
+        boolean matches(String value, int offset, int length) {
+            for (var key : keys) {
+                if (regionEquals(key, value, offset, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final class Hashed extends StringMatcher {
+
+        private final String[] table;
+
+        private final int[] hashes;
+
+        private final int mask;
+
+        private Hashed(String[] keys, boolean ignoreCase, boolean trim) {
+            super(ignoreCase, trim);
+            var capacity = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+            this.table = new String[capacity];
+            this.hashes = new int[capacity];
+            this.mask = capacity - 1;
+            for (var key : keys) {
+                var hash = hash(key, 0, key.length());
+                var index = spread(hash) & mask;
+                while (table[index] != null) {
+                    if (hashes[index] == hash && regionEquals(table[index], key, 0, key.length())) {
+                        // Duplicated when folded.
+                        break;
+                    }
+                    index = (index + 1) & mask;
+                }
+                table[index] = key;
+                hashes[index] = hash;
+            }
+        }
+
+        @Override
+        boolean matches(String value, int offset, int length) {
+            var hash = hash(value, offset, length);
+            var index = spread(hash) & mask;
+            String candidate;
+            while ((candidate = table[index]) != null) {
+                if (hashes[index] == hash && regionEquals(candidate, value, offset, length)) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private int hash(String value, int offset, int length) {
+            if (!ignoreCase && offset == 0 && length == value.length()) {
+                // Cached by the string itself.
+                return value.hashCode();
+            }
+            var h = 0;
+            for (var i = offset; i < offset + length; i++) {
+                var c = value.charAt(i);
+                if (ignoreCase) {
+                    // Surrogates are compared by code point when ignoring case, so leave them out of the hash.
+                    if (Character.isSurrogate(c)) {
+                        continue;
+                    }
+                    c = Character.toLowerCase(Character.toUpperCase(c));
+                }
+                h = 31 * h + c;
+            }
+            return h;
+        }
+
+        private static int spread(int hash) {
+            var h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import io.github.reginald.hv.extension.validators.ValidationListener;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the {@link ValidationListener}s.
+ */
+public final class ValidationListeners {
+
+    private static final List<ValidationListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile ValidationListener listener;
+
+    /**
+     * Whether the notifications are suppressed on the current thread, looked up only when any listener is registered.
+     */
+    private static final ThreadLocal<Boolean> SUPPRESSED = new ThreadLocal<>();
+
+    static {
+        ServiceLoader.load(ValidationListener.class, ValidationListeners.class.getClassLoader()).forEach(LISTENERS::add);
+        listener = combine(LISTENERS);
+    }
+
+    private ValidationListeners() {
+    }
+
+    /**
+     * Registers the listener.
+     *
+     * @param listener The listener.
+     */
+    public static synchronized void register(ValidationListener listener) {
+        LISTENERS.add(Objects.requireNonNull(listener));
+        ValidationListeners.listener = combine(LISTENERS);
+    }
+
+    /**
+     * Unregisters the listener.
+     *
+     * @param listener The listener.
+     */
+    public static synchronized void unregister(ValidationListener listener) {
+        LISTENERS.remove(listener);
+        ValidationListeners.listener = combine(LISTENERS);
+    }
+
+    /**
+     * Provides the listener notifying all the registered listeners.
+     *
+     * @return The listener, or {@code null} if no listener is registered, or the notifications are suppressed on the
+     * current thread.
+     */
+    public static ValidationListener listener() {
+        final var listener = ValidationListeners.listener;
+        return listener == null || SUPPRESSED.get() == null ? listener : null;
+    }
+
+    /**
+     * Runs the action without notifying any listener of the validations on the current thread, e.g. the synthetic
+     * ones of the warmup.
+     *
+     * @param action The action.
+     * @param <T> The type of the result.
+     * @return The result of the action.
+     */
+    public static <T> T suppressed(Supplier<T> action) {
+        if (SUPPRESSED.get() != null) {
+            return action.get();
+        }
+        SUPPRESSED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            SUPPRESSED.remove();
+        }
+    }
+
+    private static ValidationListener combine(List<ValidationListener> listeners) {
+        return switch (listeners.size()) {
+            case 0 -> null;
+            case 1 -> listeners.get(0);
+            default -> new Composite(listeners.toArray(ValidationListener[]::new));
+        };
+    }
+
+    private record Composite(ValidationListener[] listeners) implements ValidationListener {
+
+        @Override
+        public void onValidated(Class<? extends Annotation> constraintType, Class<?> validatedClass, boolean valid, long elapsedNanos) {
+            for (var listener : listeners) {
+                listener.onValidated(constraintType, validatedClass, valid, elapsedNanos);
+            }
+        }
+
+        @Override
+        public void onAccessFailed(Class<? extends Annotation> constraintType, Class<?> validatedClass, String field, Throwable cause) {
+            for (var listener : listeners) {
+                listener.onAccessFailed(constraintType, validatedClass, field, cause);
+            }
+        }
+
+        @Override
+        public void onVerified(Class<? extends Annotation> constraintType, Class<?> validatedClass, String field, long elapsedNanos) {
+            for (var listener : listeners) {
+                listener.onVerified(constraintType, validatedClass, field, elapsedNanos);
+            }
+        }
+    }
+}
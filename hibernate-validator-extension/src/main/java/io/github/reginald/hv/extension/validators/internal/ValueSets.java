@@ -0,0 +1,109 @@
+package io.github.reginald.hv.extension.validators.internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Parts shared by {@link IntValueSet} and {@link LongValueSet}.
+ */
+final class ValueSets {
+
+    private ValueSets() {
+    }
+
+    /**
+     * Searches the sorted values by the branchless binary search, narrowing the window without the data dependent
+     * branch so that it compiles to the conditional moves.
+     *
+     * @param sorted The values sorted ascending.
+     * @param value The value.
+     * @return {@code true} if the values contain the value.
+     */
+    static boolean contains(int[] sorted, int value) {
+        var length = sorted.length;
+        if (length == 0) {
+            return false;
+        }
+        var base = 0;
+        while (length > 1) {
+            var half = length >>> 1;
+            base = sorted[base + half] <= value ? base + half : base;
+            length -= half;
+        }
+        return sorted[base] == value;
+    }
+
+    /**
+     * The same as {@link #contains(int[], int)} for the {@code long} values.
+     */
+    static boolean contains(long[] sorted, long value) {
+        var length = sorted.length;
+        if (length == 0) {
+            return false;
+        }
+        var base = 0;
+        while (length > 1) {
+            var half = length >>> 1;
+            base = sorted[base + half] <= value ? base + half : base;
+            length -= half;
+        }
+        return sorted[base] == value;
+    }
+
+    /**
+     * The sets recently built, keyed by the contents of the values they're built from.
+     * <br>
+     * HV creates a validator instance per constraint declaration, each with its own copy of the annotation array, so
+     * the same values declared on many fields are built once. At most {@link #MAX_SHARED} sets are kept, the least
+     * recently used one is evicted beyond it, and the sets evicted stay valid for the validators holding them. The
+     * lookup happens only when initializing, so it's simply synchronized.
+     *
+     * @param <S> The type of the sets.
+     */
+    static final class Cache<S> {
+
+        /**
+         * Max count of the sets kept.
+         */
+        static final int MAX_SHARED = 256;
+
+        private final Map<Key, S> sets = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, S> eldest) {
+                return size() > MAX_SHARED;
+            }
+        };
+
+        /**
+         * @param values The primitive array of the values, NOT modified after.
+         * @param build Builds the set from the values if absent.
+         * @return The set shared, or the one built.
+         */
+        synchronized S get(Object values, Supplier<S> build) {
+            var key = new Key(values);
+            var set = sets.get(key);
+            if (set == null) {
+                set = build.get();
+                sets.put(key, set);
+            }
+            return set;
+        }
+    }
+
+    private record Key(Object values) {
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Key other && Objects.deepEquals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(new Object[]{values});
+        }
+    }
+}
@@ -0,0 +1,8 @@
+module hibernate.validator.extension {
+    requires transitive jakarta.validation;
+
+    exports io.github.reginald.hv.extension.validators;
+
+    uses io.github.reginald.hv.extension.validators.FieldComponentProvider;
+    uses io.github.reginald.hv.extension.validators.ValidationListener;
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.CrossingFieldsValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Asserts that the validations which pass allocate nothing per call after warmup.
+ * <br>
+ * The bytes are averaged over many calls and bounded below the size of the smallest object, so that the allocations
+ * of the JIT compilation, the deoptimization or the JDK itself on the way don't fail the tests, while any object
+ * allocated per call still does.
+ */
+public class AllocationTests {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    private static final int MEASUREMENT_ITERATIONS = 200_000;
+
+    /**
+     * Less than the 16 bytes of the smallest object on the 64-bit JVMs.
+     */
+    private static final double MAX_BYTES_PER_ITERATION = 1;
+
+    private static Object threadMXBean;
+
+    private static MethodHandle allocatedBytes;
+
+    @BeforeAll
+    public static void initThreadMXBean() throws Throwable {
+        // Looked up reflectively since this module doesn't require java.management.
+        var factory = Class.forName("java.lang.management.ManagementFactory");
+        threadMXBean = factory.getMethod("getThreadMXBean").invoke(null);
+        var beanType = Class.forName("com.sun.management.ThreadMXBean");
+        var supported = (boolean) beanType.getMethod("isThreadAllocatedMemorySupported").invoke(threadMXBean);
+        Assumptions.assumeTrue(supported, "Thread allocated memory NOT supported.");
+        beanType.getMethod("setThreadAllocatedMemoryEnabled", boolean.class).invoke(threadMXBean, true);
+        allocatedBytes = MethodHandles.publicLookup()
+                .findVirtual(beanType, "getCurrentThreadAllocatedBytes", MethodType.methodType(long.class))
+                .asType(MethodType.methodType(long.class, Object.class));
+    }
+
+    @Or(fields = {"a", "b", "c"})
+    @Xor(fields = {"a", "b", "c"})
+    @Oxor(fields = {"a", "b", "c"})
+    @Nand(fields = {"a", "b", "c"})
+    @And(fields = {"a", "b", "c"})
+    public record Pojo(String a, String b, Nested c) {
+
+        public record Nested(String d) {
+        }
+    }
+
+    @Or(fields = {"a", "c.d"}, accessor = MethodHandleFieldAccessor.class)
+    public record MethodHandlePojo(String a, Pojo.Nested c) {
+    }
+
+    @Test
+    public void testOrValidator() throws Throwable {
+        assertAllocationFree(new OrValidator(), Pojo.class.getAnnotation(Or.class), new Pojo(null, null, new Pojo.Nested("d")));
+    }
+
+    @Test
+    public void testXorValidator() throws Throwable {
+        assertAllocationFree(new XorValidator(), Pojo.class.getAnnotation(Xor.class), new Pojo(null, "b", null));
+    }
+
+    @Test
+    public void testOxorValidator() throws Throwable {
+        assertAllocationFree(new OxorValidator(), Pojo.class.getAnnotation(Oxor.class), new Pojo(null, null, null));
+    }
+
+    @Test
+    public void testNandValidator() throws Throwable {
+        assertAllocationFree(new NandValidator(), Pojo.class.getAnnotation(Nand.class), new Pojo("a", "b", null));
+    }
+
+    @Test
+    public void testAndValidator() throws Throwable {
+        assertAllocationFree(new AndValidator(), Pojo.class.getAnnotation(And.class), new Pojo("a", "b", new Pojo.Nested("d")));
+    }
+
+    @Test
+    public void testMethodHandleAccessor() throws Throwable {
+        assertAllocationFree(new OrValidator(), MethodHandlePojo.class.getAnnotation(Or.class), new MethodHandlePojo(null, new Pojo.Nested("d")));
+    }
+
+    private static <A extends Annotation> void assertAllocationFree(CrossingFieldsValidator<A> validator, A annotation, Object pojo) throws Throwable {
+        validator.initialize(annotation);
+        var valid = true;
+        for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+            valid &= validator.isValid(pojo, null);
+        }
+        Assertions.assertTrue(valid);
+
+        var before = (long) allocatedBytes.invokeExact(threadMXBean);
+        for (var i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            valid &= validator.isValid(pojo, null);
+        }
+        var after = (long) allocatedBytes.invokeExact(threadMXBean);
+        Assertions.assertTrue(valid);
+        var bytesPerIteration = (double) (after - before) / MEASUREMENT_ITERATIONS;
+        Assertions.assertTrue(bytesPerIteration < MAX_BYTES_PER_ITERATION,
+                "Allocated " + (after - before) + " bytes in " + MEASUREMENT_ITERATIONS + " validations.");
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class BatchValidatorTests extends BasicValidatorTests {
+
+    @Or(fields = {"a", "b"})
+    public static class Base {
+
+        public String a;
+
+        public String b;
+    }
+
+    @Xor(fields = {"c", "d"})
+    @Xor(fields = {"a", "c"})
+    public static class Pojo extends Base {
+
+        public String c;
+
+        public String d;
+
+        public Pojo(String a, String b, String c, String d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+    }
+
+    @Or(fields = {"a", "x"})
+    public record InaccessiblePojo(String a) {
+    }
+
+    @Test
+    public void testConstraints() {
+        var constraints = BatchValidator.of(Pojo.class).constraints();
+        Assertions.assertEquals(3, constraints.size());
+        Assertions.assertEquals(List.of(Xor.class, Xor.class, Or.class), constraints.stream().map(c -> c.annotationType()).toList());
+    }
+
+    @Test
+    public void testValidate_sameAsValidator() {
+        var pojos = new ArrayList<Pojo>();
+        for (var a : new String[]{null, "a"}) {
+            for (var b : new String[]{null, "b"}) {
+                for (var c : new String[]{null, "c"}) {
+                    for (var d : new String[]{null, "d"}) {
+                        pojos.add(new Pojo(a, b, c, d));
+                    }
+                }
+            }
+        }
+        pojos.add(null);
+        var result = BatchValidator.of(Pojo.class).validate(pojos);
+        Assertions.assertEquals(17, result.size());
+        for (var i = 0; i < 16; i++) {
+            Assertions.assertEquals(validator.validate(pojos.get(i)).isEmpty(), result.isValid(i), "Index " + i);
+        }
+        Assertions.assertTrue(result.isValid(16));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> result.isValid(17));
+
+        var xor = new BitSet();
+        for (var i = 0; i < 16; i++) {
+            var pojo = pojos.get(i);
+            if ((pojo.c == null) == (pojo.d == null)) {
+                xor.set(i);
+            }
+        }
+        Assertions.assertEquals(xor, result.violations(0));
+        Assertions.assertEquals(result.invalidCount(), result.invalid().cardinality());
+    }
+
+    @Test
+    public void testValidate_inaccessibleField() {
+        var result = BatchValidator.of(InaccessiblePojo.class).validate(new InaccessiblePojo[]{new InaccessiblePojo("a"), new InaccessiblePojo(null)});
+        // The missing "x" fails the validation even though "a" decides it.
+        Assertions.assertFalse(result.isValid(0));
+        Assertions.assertFalse(result.isValid(1));
+    }
+
+    @Test
+    public void testValidate_partitioned() {
+        var pojos = IntStream.range(0, 100_003)
+                .mapToObj(i -> new Pojo(i % 3 == 0 ? null : "a", null, null, i % 7 == 0 ? null : "d"))
+                .toArray(Pojo[]::new);
+        var batchValidator = BatchValidator.of(Pojo.class);
+        var sequential = batchValidator.validate(pojos);
+        var partitioned = batchValidator.validate(pojos, ForkJoinPool.commonPool());
+        Assertions.assertEquals(sequential.invalid(), partitioned.invalid());
+        for (var i = 0; i < pojos.length; i++) {
+            var expected = i % 3 != 0 && i % 7 != 0;
+            Assertions.assertEquals(expected, partitioned.isValid(i), "Index " + i);
+        }
+    }
+
+    public static class CountingFieldAccessor extends PojoFieldAccessor {
+
+        static final AtomicInteger ACCESSES = new AtomicInteger();
+
+        @Override
+        public Object accessValue(Object pojo, FieldPath path) throws AccessFieldException {
+            ACCESSES.incrementAndGet();
+            return super.accessValue(pojo, path);
+        }
+    }
+
+    @Or(fields = {"a", "b", "c"}, accessor = CountingFieldAccessor.class)
+    @And(fields = {"b", "c"}, accessor = CountingFieldAccessor.class)
+    @Nand(fields = {"a", "d"}, accessor = CountingFieldAccessor.class)
+    @Xor(fields = {"c", "d", "a"}, accessor = CountingFieldAccessor.class)
+    @Oxor(fields = {"d", "b"}, accessor = CountingFieldAccessor.class)
+    @Or(fields = {"d", "x"}, accessor = CountingFieldAccessor.class)
+    public record FusedPojo(String a, String b, String c, String d) {
+    }
+
+    @Test
+    public void testFused_sameAsUnfused() {
+        var pojos = new ArrayList<FusedPojo>();
+        for (var i = 0; i < 16; i++) {
+            pojos.add(new FusedPojo((i & 1) == 0 ? null : "a", (i & 2) == 0 ? null : "b", (i & 4) == 0 ? null : "c", (i & 8) == 0 ? null : "d"));
+        }
+        pojos.add(null);
+        var batchValidator = BatchValidator.of(FusedPojo.class);
+        var fused = batchValidator.fused();
+        Assertions.assertFalse(batchValidator.isFused());
+        Assertions.assertTrue(fused.isFused());
+        Assertions.assertSame(fused, fused.fused());
+
+        var expected = batchValidator.validate(pojos);
+        var actual = fused.validate(pojos);
+        Assertions.assertEquals(6, fused.constraints().size());
+        for (var c = 0; c < 6; c++) {
+            Assertions.assertEquals(expected.violations(c), actual.violations(c), "Constraint " + c);
+        }
+        Assertions.assertEquals(expected.invalid(), actual.invalid());
+        for (var i = 0; i < 16; i++) {
+            Assertions.assertEquals(validator.validate(pojos.get(i)).isEmpty(), actual.isValid(i), "Index " + i);
+        }
+    }
+
+    @Test
+    public void testFused_readsFieldsOnce() {
+        var pojos = new FusedPojo[]{new FusedPojo("a", "b", "c", "d")};
+        var batchValidator = BatchValidator.of(FusedPojo.class);
+        CountingFieldAccessor.ACCESSES.set(0);
+        batchValidator.validate(pojos);
+        var unfused = CountingFieldAccessor.ACCESSES.getAndSet(0);
+        batchValidator.fused().validate(pojos);
+        var fused = CountingFieldAccessor.ACCESSES.get();
+        // a, b, c and d, while x is never read since d decides the last @Or.
+        Assertions.assertEquals(4, fused);
+        Assertions.assertTrue(unfused > fused, "Unfused accesses " + unfused);
+    }
+
+    @Test
+    public void testFused_partitioned() {
+        var pojos = IntStream.range(0, 100_003)
+                .mapToObj(i -> new Pojo(i % 3 == 0 ? null : "a", null, null, i % 7 == 0 ? null : "d"))
+                .toArray(Pojo[]::new);
+        var batchValidator = BatchValidator.of(Pojo.class);
+        Assertions.assertEquals(batchValidator.validate(pojos).invalid(), batchValidator.fused().validate(pojos, ForkJoinPool.commonPool()).invalid());
+    }
+}
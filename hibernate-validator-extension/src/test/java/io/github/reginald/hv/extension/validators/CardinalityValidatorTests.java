@@ -0,0 +1,145 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CardinalityValidatorTests extends BasicValidatorTests {
+
+    @Cardinality(fields = {"a", "b", "c", "d"}, min = 1, max = 2)
+    private record SimplePojo(String a, String b, String c, String d) {
+    }
+
+    @Test
+    public void testSimplePojo_WithinBounds() {
+        Assertions.assertTrue(validator.validate(new SimplePojo("a", null, null, null)).isEmpty());
+        Assertions.assertTrue(validator.validate(new SimplePojo(null, "b", null, "d")).isEmpty());
+    }
+
+    @Test
+    public void testSimplePojo_OutOfBounds() {
+        var violations = validator.validate(new SimplePojo(null, "", null, "")).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(List.of("Between 1 and 2 of the fields [a, b, c, d] required."), violations);
+
+        violations = validator.validate(new SimplePojo("a", "b", "c", null)).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(List.of("Between 1 and 2 of the fields [a, b, c, d] required."), violations);
+    }
+
+    @Cardinality(fields = {"a", "b"}, min = 2)
+    @Cardinality(fields = {"a", "b"}, max = 1)
+    @Cardinality(fields = {"a", "b"}, min = 1, max = 1)
+    private record PartiallyBoundedPojo(String a, String b) {
+    }
+
+    @Test
+    public void testPartiallyBoundedMessages() {
+        var violations = validator.validate(new PartiallyBoundedPojo("a", "b")).stream().map(ConstraintViolation::getMessage).collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of("At most 1 of the fields [a, b] required.", "Exactly 1 of the fields [a, b] required."), violations);
+
+        violations = validator.validate(new PartiallyBoundedPojo(null, null)).stream().map(ConstraintViolation::getMessage).collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of("At least 2 of the fields [a, b] required.", "Exactly 1 of the fields [a, b] required."), violations);
+    }
+
+    @Or(fields = {"a", "b", "c", "d"})
+    @Xor(fields = {"a", "b", "c", "d"})
+    @Oxor(fields = {"a", "b", "c", "d"})
+    @Cardinality(fields = {"a", "b", "c", "d"}, min = 1, message = "or")
+    @Cardinality(fields = {"a", "b", "c", "d"}, min = 1, max = 1, message = "xor")
+    @Cardinality(fields = {"a", "b", "c", "d"}, max = 1, message = "oxor")
+    private record Equivalent(String a, String b, String c, String d) {
+    }
+
+    @Test
+    public void testEquivalentToOrXorOxor() {
+        for (var i = 0; i < 16; i++) {
+            var pojo = new Equivalent((i & 1) == 0 ? null : "a", (i & 2) == 0 ? null : "b", (i & 4) == 0 ? null : "c", (i & 8) == 0 ? null : "d");
+            var violations = validator.validate(pojo);
+            Assertions.assertEquals(contains(violations, Or.class), contains(violations, "or"), pojo.toString());
+            Assertions.assertEquals(contains(violations, Xor.class), contains(violations, "xor"), pojo.toString());
+            Assertions.assertEquals(contains(violations, Oxor.class), contains(violations, "oxor"), pojo.toString());
+        }
+    }
+
+    private static boolean contains(Set<ConstraintViolation<Equivalent>> violations, Class<?> constraintType) {
+        return violations.stream().anyMatch(v -> v.getConstraintDescriptor().getAnnotation().annotationType() == constraintType);
+    }
+
+    private static boolean contains(Set<ConstraintViolation<Equivalent>> violations, String message) {
+        return violations.stream().anyMatch(v -> v.getMessage().equals(message));
+    }
+
+    @Cardinality(fields = {"a", "b", "c", "d", "e", "f"}, max = 1, accessor = BatchValidatorTests.CountingFieldAccessor.class)
+    private record AtMostOne(String a, String b, String c, String d, String e, String f) {
+    }
+
+    @Cardinality(fields = {"a", "b", "c", "d", "e", "f"}, min = 5, accessor = BatchValidatorTests.CountingFieldAccessor.class)
+    private record AtLeastFive(String a, String b, String c, String d, String e, String f) {
+    }
+
+    @Cardinality(fields = {"a", "b", "c", "d", "e", "f"}, min = 2, max = 6, accessor = BatchValidatorTests.CountingFieldAccessor.class)
+    private record AtLeastTwo(String a, String b, String c, String d, String e, String f) {
+    }
+
+    @Test
+    public void testEarlyExit() {
+        BatchValidatorTests.CountingFieldAccessor.ACCESSES.set(0);
+        Assertions.assertFalse(validator.validate(new AtMostOne("a", "b", null, null, null, null)).isEmpty());
+        Assertions.assertEquals(2, BatchValidatorTests.CountingFieldAccessor.ACCESSES.get());
+
+        BatchValidatorTests.CountingFieldAccessor.ACCESSES.set(0);
+        Assertions.assertFalse(validator.validate(new AtLeastFive(null, null, "c", "d", "e", "f")).isEmpty());
+        Assertions.assertEquals(2, BatchValidatorTests.CountingFieldAccessor.ACCESSES.get());
+
+        BatchValidatorTests.CountingFieldAccessor.ACCESSES.set(0);
+        Assertions.assertTrue(validator.validate(new AtLeastTwo("a", "b", null, null, null, null)).isEmpty());
+        Assertions.assertEquals(2, BatchValidatorTests.CountingFieldAccessor.ACCESSES.get());
+
+        BatchValidatorTests.CountingFieldAccessor.ACCESSES.set(0);
+        // The last field alone can NOT exceed the maximum.
+        Assertions.assertTrue(validator.validate(new AtMostOne(null, null, null, null, null, "f")).isEmpty());
+        Assertions.assertEquals(5, BatchValidatorTests.CountingFieldAccessor.ACCESSES.get());
+    }
+
+    @Cardinality(fields = {"a", "b"}, min = 2, max = 1)
+    private record InvalidBounds(String a, String b) {
+    }
+
+    @Cardinality(fields = {"a", "b"}, min = 3)
+    private record UnreachableMin(String a, String b) {
+    }
+
+    @Test
+    public void testInvalidBounds() {
+        Assertions.assertThrows(ValidationException.class, () -> validator.validate(new InvalidBounds("a", "b")));
+        Assertions.assertThrows(ValidationException.class, () -> validator.validate(new UnreachableMin("a", "b")));
+        var e = Assertions.assertThrows(ConstraintDeclarationException.class, () -> ConstraintPaths.check(InvalidBounds.class, UnreachableMin.class));
+        Assertions.assertTrue(e.getMessage().contains("Cardinality [2, 1] of the fields [a, b] is NOT valid."), e.getMessage());
+        Assertions.assertTrue(e.getMessage().contains("Cardinality [3, 2147483647] of the fields [a, b] is NOT valid."), e.getMessage());
+    }
+
+    @Cardinality(fields = {"a", "b", "c", "d"}, min = 2, max = 3)
+    @Or(fields = {"a", "d"})
+    public record FusedPojo(String a, String b, String c, String d) {
+    }
+
+    @Test
+    public void testFusedBatch_sameAsUnfused() {
+        var pojos = new ArrayList<FusedPojo>();
+        for (var i = 0; i < 16; i++) {
+            pojos.add(new FusedPojo((i & 1) == 0 ? null : "a", (i & 2) == 0 ? null : "b", (i & 4) == 0 ? null : "c", (i & 8) == 0 ? null : "d"));
+        }
+        var batchValidator = BatchValidator.of(FusedPojo.class);
+        Assertions.assertTrue(batchValidator.fused().isFused());
+        var invalid = batchValidator.validate(pojos).invalid();
+        Assertions.assertEquals(invalid, batchValidator.fused().validate(pojos).invalid());
+        // 0 or 1 valid field, all 4 valid fields, or 2 or 3 valid fields without a nor d.
+        Assertions.assertEquals(5 + 1 + 1, invalid.cardinality());
+    }
+}
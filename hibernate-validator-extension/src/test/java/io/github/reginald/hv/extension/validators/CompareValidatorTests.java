@@ -0,0 +1,157 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintDeclarationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+public class CompareValidatorTests extends BasicValidatorTests {
+
+    @Compare(left = "start", operator = Compare.Operator.LT, right = "end")
+    private record Period(LocalDate start, LocalDate end) {
+    }
+
+    @Test
+    public void testPeriod() {
+        Assertions.assertTrue(validator.validate(new Period(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2))).isEmpty());
+        var violations = validator.validate(new Period(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2))).stream()
+                .map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(List.of("Field [start] must be less than field [end]."), violations);
+    }
+
+    @Test
+    public void testPeriod_nullsAreValid() {
+        Assertions.assertTrue(validator.validate(new Period(null, LocalDate.of(2024, 1, 2))).isEmpty());
+        Assertions.assertTrue(validator.validate(new Period(LocalDate.of(2024, 1, 2), null)).isEmpty());
+    }
+
+    @Compare(left = "min", operator = Compare.Operator.LE, right = "max")
+    @Compare(left = "count", operator = Compare.Operator.LE, right = "max")
+    @Compare(left = "ratio", operator = Compare.Operator.GT, right = "min")
+    @Compare(left = "price", operator = Compare.Operator.EQ, right = "listPrice")
+    @Compare(left = "code", operator = Compare.Operator.NE, right = "name")
+    private record Ranges(int min, long max, short count, double ratio, BigDecimal price, BigDecimal listPrice, String code, String name) {
+    }
+
+    @Test
+    public void testNumbersAndComparables() {
+        var valid = new Ranges(1, 2L, (short) 2, 1.5, new BigDecimal("1.0"), new BigDecimal("1.00"), "a", "b");
+        Assertions.assertTrue(validator.validate(valid).isEmpty());
+
+        var invalid = new Ranges(3, 2L, (short) 3, 3.0, new BigDecimal("1.0"), new BigDecimal("1.01"), "a", "a");
+        var violations = validator.validate(invalid).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(5, violations.size());
+        Assertions.assertTrue(violations.contains("Field [min] must be less than or equal to field [max]."));
+        Assertions.assertTrue(violations.contains("Field [count] must be less than or equal to field [max]."));
+        Assertions.assertTrue(violations.contains("Field [ratio] must be greater than field [min]."));
+        Assertions.assertTrue(violations.contains("Field [price] must be equal to field [listPrice]."));
+        Assertions.assertTrue(violations.contains("Field [code] must be not equal to field [name]."));
+    }
+
+    @Compare(left = "shippedAt", operator = Compare.Operator.GE, right = "orderedAt")
+    @Compare(left = "deliveredAt", operator = Compare.Operator.GE, right = "shippedAt")
+    @Compare(left = "updated", operator = Compare.Operator.GE, right = "created")
+    private record Order(Instant orderedAt, OffsetDateTime shippedAt, ZonedDateTime deliveredAt, Date created, Date updated) {
+    }
+
+    @Test
+    public void testTemporals_comparedOnTimeLine() {
+        var orderedAt = Instant.parse("2024-01-01T10:00:00Z");
+        // 11:00 at +02:00 is 09:00 UTC, before the order.
+        var shippedAt = OffsetDateTime.of(2024, 1, 1, 11, 0, 0, 0, ZoneOffset.ofHours(2));
+        // The same instant as the shipping.
+        var deliveredAt = ZonedDateTime.of(2024, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        var order = new Order(orderedAt, shippedAt, deliveredAt, new Date(1000), new Date(1000));
+        var violations = validator.validate(order).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(List.of("Field [shippedAt] must be greater than or equal to field [orderedAt]."), violations);
+    }
+
+    @Compare(left = "a", operator = Compare.Operator.LT, right = "b")
+    private record Incomparable(String a, Integer b) {
+    }
+
+    @Test
+    public void testIncomparable() {
+        var violations = validator.validate(new Incomparable("a", 1)).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(List.of("Field [a] of java.lang.String can NOT be compared with field [b] of java.lang.Integer."), violations);
+        Assertions.assertTrue(validator.validate(new Incomparable(null, 1)).isEmpty());
+    }
+
+    @Compare(left = "a", operator = Compare.Operator.LT, right = "missing")
+    private record MissingField(Integer a) {
+    }
+
+    @Test
+    public void testMissingField() {
+        var violations = validator.validate(new MissingField(1)).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(2, violations.size());
+        Assertions.assertTrue(violations.contains("Field [missing] doesn't exist."));
+    }
+
+    @Compare(left = "value", operator = Compare.Operator.LE, right = "limit")
+    private record Polymorphic(Number value, Number limit) {
+    }
+
+    @Test
+    public void testRespecializedOnClassChange() {
+        Assertions.assertTrue(validator.validate(new Polymorphic(1, 2)).isEmpty());
+        Assertions.assertTrue(validator.validate(new Polymorphic(1.5, 2L)).isEmpty());
+        Assertions.assertFalse(validator.validate(new Polymorphic(3L, 2)).isEmpty());
+        Assertions.assertFalse(validator.validate(new Polymorphic(2, 1)).isEmpty());
+    }
+
+    @Compare(left = "inner.leaf.start", operator = Compare.Operator.LT, right = "inner.leaf.end")
+    @SuppressWarnings("unused")
+    public static class Nested {
+
+        private final Inner inner;
+
+        private int innerReads;
+
+        public Nested(Inner inner) {
+            this.inner = inner;
+        }
+
+        public Inner getInner() {
+            innerReads++;
+            return inner;
+        }
+
+        public record Inner(Period leaf) {
+        }
+    }
+
+    @Test
+    public void testNested_prefixMemoizedWithinScope() {
+        var nested = new Nested(new Nested.Inner(new Period(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2))));
+        Assertions.assertTrue(validator.validate(nested).isEmpty());
+        Assertions.assertEquals(2, nested.innerReads);
+
+        nested.innerReads = 0;
+        try (var ignored = ValidationScope.open()) {
+            Assertions.assertTrue(validator.validate(nested).isEmpty());
+        }
+        Assertions.assertEquals(1, nested.innerReads);
+    }
+
+    @Test
+    public void testConstraintPaths() {
+        var e = Assertions.assertThrows(ConstraintDeclarationException.class, () -> ConstraintPaths.check(MissingField.class));
+        Assertions.assertTrue(e.getMessage().contains("Field [missing] doesn't exist."), e.getMessage());
+
+        e = Assertions.assertThrows(ConstraintDeclarationException.class, () -> ConstraintPaths.check(Incomparable.class));
+        Assertions.assertTrue(e.getMessage().contains("Field [a] of java.lang.String can NOT be compared with field [b] of java.lang.Integer."), e.getMessage());
+
+        // The declared types of the subclassable values, e.g. Number, tell nothing.
+        ConstraintPaths.check(Period.class, Ranges.class, Order.class, Polymorphic.class);
+    }
+}
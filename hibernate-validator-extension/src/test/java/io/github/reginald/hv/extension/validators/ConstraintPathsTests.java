@@ -0,0 +1,58 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.ConstraintDeclarationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class ConstraintPathsTests {
+
+    public record Item(String sku, List<String> tags) {
+    }
+
+    @SuppressWarnings("unused")
+    public static class Order {
+
+        public Item[] items;
+
+        private boolean paid;
+
+        public boolean isPaid() {
+            return paid;
+        }
+    }
+
+    @Or(fields = {"order.items[0].sku", "order.paid"})
+    @And(fields = {"lines[1].tags[0]", "attributes.anything.deeper"})
+    @Xor(fields = {"payload.whatever", "body.a.b[3]"})
+    @Oxor(fields = {"raw.a", "raw.b"}, accessor = JsonFieldAccessor.class)
+    public record ValidRequest(Order order, List<Item> lines, Map<String, Object> attributes, Object payload,
+                               CharSequence body, JsonDocument raw) {
+    }
+
+    @Or(fields = {"order.missing", "lines[0].sku"})
+    @Nand(fields = {"order.items.sku", "secret"})
+    @Xor(fields = {"order[0]", "lines[0].sku.x"})
+    @SuppressWarnings("unused")
+    public record InvalidRequest(Order order, List<Item> lines) {
+    }
+
+    @Test
+    public void testValid() {
+        Assertions.assertDoesNotThrow(() -> ConstraintPaths.check(ValidRequest.class));
+    }
+
+    @Test
+    public void testInvalid_reportedTogether() {
+        var e = Assertions.assertThrows(ConstraintDeclarationException.class, () -> ConstraintPaths.check(ValidRequest.class, InvalidRequest.class));
+        var message = e.getMessage();
+        Assertions.assertTrue(message.startsWith("5 invalid crossing-field constraint(s):"), message);
+        Assertions.assertTrue(message.contains("@Or[order.missing, lines[0].sku] on " + InvalidRequest.class.getName() + ": Field [order.missing] doesn't exist."), message);
+        Assertions.assertTrue(message.contains("Field [order.items.sku] doesn't exist."), message);
+        Assertions.assertTrue(message.contains("Field [secret] doesn't exist."), message);
+        Assertions.assertTrue(message.contains("Field [order[0]] indexes neither a list nor an array."), message);
+        Assertions.assertTrue(message.contains("Field [lines[0].sku.x] doesn't exist."), message);
+    }
+}
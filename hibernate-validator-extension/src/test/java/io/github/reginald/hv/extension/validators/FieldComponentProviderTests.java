@@ -0,0 +1,98 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FieldComponentProviderTests extends BasicValidatorTests {
+
+    public static class CountingVerifier extends NonEmptyStringFieldVerifier {
+
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingVerifier() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+
+    @NotThreadSafe
+    public static class NotThreadSafeVerifier extends NonEmptyStringFieldVerifier {
+
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public NotThreadSafeVerifier() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+
+    public static class ConfiguredVerifier implements FieldVerifier {
+
+        private final String expected;
+
+        public ConfiguredVerifier(String expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean verify(Object validatingTarget, String field, Object value) {
+            return expected.equals(value);
+        }
+    }
+
+    @Or(fields = {"a", "b"}, fieldVerifier = CountingVerifier.class)
+    private record SharedPojo(String a, String b) {
+    }
+
+    @Or(fields = {"a", "b"}, fieldVerifier = NotThreadSafeVerifier.class)
+    private record NotThreadSafePojo(String a, String b) {
+    }
+
+    @Or(fields = {"a", "b"}, fieldVerifier = ConfiguredVerifier.class)
+    private record ConfiguredPojo(String a, String b) {
+    }
+
+    @Test
+    public void testSharedVerifier_createdOnce() {
+        for (var i = 0; i < 5; i++) {
+            Assertions.assertTrue(validator.validate(new SharedPojo("a", null)).isEmpty());
+        }
+        Assertions.assertEquals(1, CountingVerifier.INSTANCES.get());
+    }
+
+    @Test
+    public void testNotThreadSafeVerifier_createdPerValidation() {
+        var before = NotThreadSafeVerifier.INSTANCES.get();
+        for (var i = 0; i < 5; i++) {
+            Assertions.assertTrue(validator.validate(new NotThreadSafePojo("a", null)).isEmpty());
+        }
+        Assertions.assertEquals(5, NotThreadSafeVerifier.INSTANCES.get() - before);
+    }
+
+    private final FieldComponentProvider provider = new FieldComponentProvider() {
+        @Override
+        public <T> T provide(Class<T> type) {
+            return type == ConfiguredVerifier.class ? type.cast(new ConfiguredVerifier("x")) : null;
+        }
+    };
+
+    @AfterEach
+    public void unregisterProvider() {
+        FieldComponentProvider.unregister(provider);
+    }
+
+    @Test
+    public void testProvidedVerifier() {
+        FieldComponentProvider.register(provider);
+        Assertions.assertTrue(validator.validate(new ConfiguredPojo("a", "x")).isEmpty());
+        Assertions.assertEquals(1, validator.validate(new ConfiguredPojo("a", "b")).size());
+    }
+
+    @Test
+    public void testUnregisterProvider() {
+        FieldComponentProvider.register(provider);
+        Assertions.assertTrue(FieldComponentProvider.unregister(provider));
+        Assertions.assertFalse(FieldComponentProvider.unregister(provider));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.IntValueSet;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class IntEnumValueValidatorTests extends BasicValidatorTests {
+
+    @SuppressWarnings({"FieldCanBeLocal", "unused"})
+    private static final class Pojo {
+
+        @IntEnumValue({1, 2, 3})
+        private final Integer status;
+
+        @IntEnumValue(value = {-5, 1000, 70000}, allowEmpty = true)
+        private final Integer code;
+
+        private Pojo(Integer status, Integer code) {
+            this.status = status;
+            this.code = code;
+        }
+    }
+
+    @Test
+    public void testPojo_valid() {
+        Assertions.assertTrue(validator.validate(new Pojo(2, 70000)).isEmpty());
+        Assertions.assertTrue(validator.validate(new Pojo(3, null)).isEmpty());
+    }
+
+    @Test
+    public void testPojo_invalid() {
+        var violations = validator.validate(new Pojo(null, 4)).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(2, violations.size());
+        Assertions.assertTrue(violations.contains("Value  not valid. Should be one of [1, 2, 3]"));
+        Assertions.assertTrue(violations.contains("Value 4 not valid. Should be one of [-5, 1000, 70000]"));
+    }
+
+    @Test
+    public void testValueSet_bitmap() {
+        assertSameAsHashSet(IntStream.rangeClosed(-100, 100).filter(i -> i % 3 == 0).toArray());
+        assertSameAsHashSet(new int[]{Integer.MAX_VALUE - 1, Integer.MAX_VALUE});
+        assertSameAsHashSet(new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE + 63, Integer.MIN_VALUE + 64});
+    }
+
+    @Test
+    public void testValueSet_sorted() {
+        assertSameAsHashSet(new int[]{Integer.MIN_VALUE, -1, 0, 1_000_000, Integer.MAX_VALUE});
+        assertSameAsHashSet(new int[0]);
+    }
+
+    @Test
+    public void testValueSet_hashed() {
+        var random = new Random(42);
+        assertSameAsHashSet(random.ints(5000).toArray());
+        assertSameAsHashSet(IntStream.concat(IntStream.of(0), random.ints(100)).toArray());
+    }
+
+    private static void assertSameAsHashSet(int[] values) {
+        var set = IntValueSet.of(values);
+        var expected = new HashSet<Integer>();
+        for (var value : values) {
+            expected.add(value);
+            Assertions.assertTrue(set.contains(value), () -> "Missing " + value);
+        }
+        var random = new Random(7);
+        for (var i = 0; i < 10_000; i++) {
+            var value = i % 2 == 0 ? random.nextInt() : random.nextInt(1000) - 500;
+            Assertions.assertEquals(expected.contains(value), set.contains(value), "Value " + value);
+        }
+        for (var value : new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}) {
+            Assertions.assertEquals(expected.contains(value), set.contains(value), "Value " + value);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class JsonFieldAccessorTests extends PojoFieldAccessorTests {
+
+    private static final String JSON = """
+            {
+              "id": 42,
+              "name": "Alice \\"A\\" \\u00e9",
+              "skipped": {"nested": [1, {"deep": "}]\\\\"}, [true, false]], "s": "{["},
+              "active": true,
+              "score": -1.5e3,
+              "big": 123456789012345678901234567890,
+              "nothing": null,
+              "ключ": "значение",
+              "order": {
+                "items": [{"sku": "SKU-0"}, {"sku": "SKU-1", "tags": []}],
+                "status": "PAID"
+              }
+            }
+            """;
+
+    @Override
+    protected FieldAccessor createAccessor() {
+        return new JsonFieldAccessor();
+    }
+
+    private static JsonDocument document() {
+        return JsonDocument.of(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testScalars() throws FieldAccessor.AccessFieldException {
+        var document = document();
+        Assertions.assertEquals(42L, accessor.accessValue(document, FieldPath.compile("id")));
+        Assertions.assertEquals("Alice \"A\" é", accessor.accessValue(document, FieldPath.compile("name")));
+        Assertions.assertEquals(true, accessor.accessValue(document, FieldPath.compile("active")));
+        Assertions.assertEquals(new BigDecimal("-1.5e3"), accessor.accessValue(document, FieldPath.compile("score")));
+        Assertions.assertEquals(new BigDecimal("123456789012345678901234567890"), accessor.accessValue(document, FieldPath.compile("big")));
+        Assertions.assertNull(accessor.accessValue(document, FieldPath.compile("nothing")));
+        Assertions.assertNull(accessor.accessValue(document, FieldPath.compile("absent")));
+        Assertions.assertEquals("значение", accessor.accessValue(document, FieldPath.compile("ключ")));
+    }
+
+    @Test
+    public void testNestedPaths() throws FieldAccessor.AccessFieldException {
+        var document = document();
+        Assertions.assertEquals("SKU-1", accessor.accessValue(document, FieldPath.compile("order.items[1].sku")));
+        Assertions.assertEquals("PAID", accessor.accessValue(document, FieldPath.compile("order.status")));
+        Assertions.assertEquals("}]\\", accessor.accessValue(document, FieldPath.compile("skipped.nested[1].deep")));
+        Assertions.assertNull(accessor.accessValue(document, FieldPath.compile("order.items[2].sku")));
+        Assertions.assertNull(accessor.accessValue(document, FieldPath.compile("nothing.a")));
+        // Cached offsets give the same results.
+        Assertions.assertEquals("SKU-0", accessor.accessValue(document, FieldPath.compile("order.items[0].sku")));
+        Assertions.assertEquals("SKU-1", accessor.accessValue(document, FieldPath.compile("order.items[1].sku")));
+    }
+
+    @Test
+    public void testNodes() throws FieldAccessor.AccessFieldException {
+        var document = document();
+        var items = (JsonDocument.Node) accessor.accessValue(document, FieldPath.compile("order.items"));
+        Assertions.assertTrue(items.isArray());
+        Assertions.assertFalse(items.isEmpty());
+        var tags = (JsonDocument.Node) accessor.accessValue(document, FieldPath.compile("order.items[1].tags"));
+        Assertions.assertTrue(tags.isEmpty());
+        Assertions.assertEquals("{\"sku\": \"SKU-0\"}", accessor.accessValue(document, FieldPath.compile("order.items[0]")).toString());
+    }
+
+    @Test
+    public void testMismatchedSegment() {
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.accessValue(document(), FieldPath.compile("order[0]")));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+        e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.accessValue(document(), FieldPath.compile("id.value")));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+    }
+
+    @Test
+    public void testMalformed() {
+        for (var json : new String[]{"{\"a\" 1}", "{\"a\": 1", "{\"b\": tru, \"a\": 1}", ""}) {
+            var document = JsonDocument.of(json.getBytes(StandardCharsets.UTF_8));
+            Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.accessValue(document, FieldPath.compile("a.b")), json);
+        }
+    }
+
+    @Test
+    public void testMalformedLiterals() {
+        for (var json : new String[]{"{\"b\": nulx, \"a\": 1}", "{\"b\": trux, \"a\": 1}", "{\"b\": fals3, \"a\": 1}"}) {
+            var document = JsonDocument.of(json.getBytes(StandardCharsets.UTF_8));
+            var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.accessValue(document, FieldPath.compile("a")), json);
+            Assertions.assertInstanceOf(IllegalStateException.class, e.getCause(), json);
+        }
+    }
+
+    @Test
+    public void testByteSources() throws FieldAccessor.AccessFieldException {
+        var bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(42L, accessor.accessValue(bytes, FieldPath.compile("id")));
+        var padded = ByteBuffer.allocateDirect(bytes.length + 3);
+        padded.put(new byte[]{'x', 'y', 'z'}).put(bytes).position(3);
+        Assertions.assertEquals("PAID", accessor.accessValue(padded, FieldPath.compile("order.status")));
+        Assertions.assertEquals(3, padded.position());
+    }
+
+    @Test
+    public void testByteSourcesWithinScope() throws FieldAccessor.AccessFieldException {
+        var bytes = "{\"a\": 1, \"b\": 2}".getBytes(StandardCharsets.UTF_8);
+        var swapped = "{\"b\": 1, \"a\": 2}".getBytes(StandardCharsets.UTF_8);
+        try (var ignored = ValidationScope.open()) {
+            Assertions.assertEquals(2L, accessor.accessValue(bytes, FieldPath.compile("b")));
+            System.arraycopy(swapped, 0, bytes, 0, bytes.length);
+            // The same document is reused within the scope, so the offset of the member cached before is still used.
+            Assertions.assertEquals(2L, accessor.accessValue(bytes, FieldPath.compile("b")));
+        }
+        Assertions.assertEquals(1L, accessor.accessValue(bytes, FieldPath.compile("b")));
+    }
+
+    @Or(fields = {"body.email", "body.contact.phone"}, accessor = JsonFieldAccessor.class)
+    private record Request(JsonDocument body) {
+    }
+
+    @Test
+    public void testValidation() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        Assertions.assertTrue(validator.validate(new Request(JsonDocument.of("{\"contact\": {\"phone\": \"123\"}}".getBytes(StandardCharsets.UTF_8)))).isEmpty());
+        Set<String> messages = validator.validate(new Request(JsonDocument.of("{\"email\": \"\", \"contact\": 1}".getBytes(StandardCharsets.UTF_8))))
+                .stream().map(ConstraintViolation::getMessage).collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of("At least one of the fields [body.email, body.contact.phone] required.", "Field [body.contact.phone] doesn't exist."), messages);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+public class LatencyHistogramTests {
+
+    @Test
+    public void testEmpty() {
+        var histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.count());
+        Assertions.assertEquals(0, histogram.percentile(99));
+        Assertions.assertEquals(0, histogram.mean());
+    }
+
+    @Test
+    public void testPercentile() {
+        var histogram = new LatencyHistogram();
+        for (var i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        Assertions.assertEquals(1000, histogram.count());
+        Assertions.assertEquals(1_000_000, histogram.max());
+        Assertions.assertEquals(500_500, histogram.mean(), 0.001);
+        assertWithinPrecision(500_000, histogram.percentile(50));
+        assertWithinPrecision(990_000, histogram.percentile(99));
+        Assertions.assertEquals(1_000_000, histogram.percentile(100));
+        Assertions.assertEquals(1000, histogram.percentile(0), 1000 / 8);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+
+    @Test
+    public void testBuckets() {
+        var previous = -1L;
+        for (var value : new long[]{0, 1, 15, 16, 17, 31, 32, 1000, 1L << 40, Long.MAX_VALUE}) {
+            var bucket = LatencyHistogram.bucket(value);
+            Assertions.assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+            Assertions.assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value);
+            Assertions.assertTrue(bucket >= previous);
+            previous = bucket;
+        }
+    }
+
+    @Test
+    public void testConcurrentRecording() {
+        var histogram = new LatencyHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(histogram::record);
+        Assertions.assertEquals(100_000, histogram.count());
+        Assertions.assertEquals(99_999, histogram.max());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assertions.assertEquals(expected, actual, expected / 8.0, "Actual " + actual);
+    }
+}
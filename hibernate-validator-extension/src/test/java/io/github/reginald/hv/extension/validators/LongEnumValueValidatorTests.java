@@ -0,0 +1,115 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.LongValueSet;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+public class LongEnumValueValidatorTests extends BasicValidatorTests {
+
+    @SuppressWarnings({"FieldCanBeLocal", "unused"})
+    private static final class Pojo {
+
+        @LongEnumValue({1L, 2L, 3L})
+        private final Long type;
+
+        @LongEnumValue(value = {Long.MIN_VALUE, 0L, 10_000_000_000L}, allowEmpty = true)
+        private final Long feature;
+
+        private Pojo(Long type, Long feature) {
+            this.type = type;
+            this.feature = feature;
+        }
+    }
+
+    @SuppressWarnings({"FieldCanBeLocal", "unused"})
+    private static final class AnotherPojo {
+
+        @LongEnumValue({3L, 1L, 2L, 2L})
+        private final Long type;
+
+        private AnotherPojo(Long type) {
+            this.type = type;
+        }
+    }
+
+    @Test
+    public void testPojo_valid() {
+        Assertions.assertTrue(validator.validate(new Pojo(2L, 10_000_000_000L)).isEmpty());
+        Assertions.assertTrue(validator.validate(new Pojo(3L, null)).isEmpty());
+        Assertions.assertTrue(validator.validate(new AnotherPojo(1L)).isEmpty());
+    }
+
+    @Test
+    public void testPojo_invalid() {
+        var violations = validator.validate(new Pojo(null, 4L)).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(2, violations.size());
+        Assertions.assertTrue(violations.contains("Value  not valid. Should be one of [1, 2, 3]"));
+        Assertions.assertTrue(violations.contains("Value 4 not valid. Should be one of [-9223372036854775808, 0, 10000000000]"));
+    }
+
+    @Test
+    public void testValueSet_shared() {
+        var values = new long[]{3L, 1L, 2L};
+        var set = LongValueSet.of(values);
+        Assertions.assertSame(set, LongValueSet.of(values.clone()));
+        Assertions.assertNotSame(set, LongValueSet.of(new long[]{1L, 2L, 3L}));
+        Assertions.assertArrayEquals(new long[]{3L, 1L, 2L}, values);
+    }
+
+    @Test
+    public void testValueSet_evicted() {
+        var values = new long[]{-3L, -1L, -2L};
+        var set = LongValueSet.of(values);
+        for (var i = 0; i < 1000; i++) {
+            LongValueSet.of(new long[]{i, i + 1_000_000L});
+        }
+        var rebuilt = LongValueSet.of(values);
+        Assertions.assertNotSame(set, rebuilt);
+        Assertions.assertTrue(set.contains(-2L));
+        Assertions.assertTrue(rebuilt.contains(-2L));
+        Assertions.assertSame(rebuilt, LongValueSet.of(values.clone()));
+    }
+
+    @Test
+    public void testValueSet_bitmap() {
+        assertSameAsHashSet(LongStream.rangeClosed(-100, 100).filter(i -> i % 3 == 0).toArray());
+        assertSameAsHashSet(new long[]{Long.MAX_VALUE - 1, Long.MAX_VALUE});
+        assertSameAsHashSet(new long[]{Long.MIN_VALUE, Long.MIN_VALUE + 63, Long.MIN_VALUE + 64});
+    }
+
+    @Test
+    public void testValueSet_sorted() {
+        assertSameAsHashSet(new long[]{Long.MIN_VALUE, -1L, 0L, 10_000_000_000L, Long.MAX_VALUE});
+        assertSameAsHashSet(new long[]{42L, 10_000_000_000L});
+        assertSameAsHashSet(new long[0]);
+    }
+
+    @Test
+    public void testValueSet_hashed() {
+        var random = new Random(42);
+        assertSameAsHashSet(random.longs(5000).toArray());
+        assertSameAsHashSet(LongStream.concat(LongStream.of(0L), random.longs(100)).toArray());
+    }
+
+    private static void assertSameAsHashSet(long[] values) {
+        var set = LongValueSet.of(values);
+        var expected = new HashSet<Long>();
+        for (var value : values) {
+            expected.add(value);
+            Assertions.assertTrue(set.contains(value), () -> "Missing " + value);
+        }
+        var random = new Random(7);
+        for (var i = 0; i < 10_000; i++) {
+            var value = i % 2 == 0 ? random.nextLong() : random.nextInt(1000) - 500;
+            Assertions.assertEquals(expected.contains(value), set.contains(value), "Value " + value);
+        }
+        for (var value : new long[]{Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE}) {
+            Assertions.assertEquals(expected.contains(value), set.contains(value), "Value " + value);
+        }
+    }
+}
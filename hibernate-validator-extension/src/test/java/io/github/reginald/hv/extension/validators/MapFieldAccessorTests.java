@@ -0,0 +1,73 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class MapFieldAccessorTests extends PojoFieldAccessorTests {
+
+    @Override
+    protected FieldAccessor createAccessor() {
+        return new MapFieldAccessor();
+    }
+
+    private static Map<String, Object> payload() {
+        var item = new LinkedHashMap<String, Object>();
+        item.put("sku", "SKU-1");
+        var items = new ArrayList<Object>();
+        items.add(Map.of("sku", "SKU-0"));
+        items.add(item);
+        var order = new HashMap<String, Object>();
+        order.put("items", items);
+        order.put("tags", new LinkedList<>(List.of("t0")));
+        order.put("attributes", new TreeMap<>(Map.of("k", "v")));
+        var payload = new HashMap<String, Object>();
+        payload.put("order", order);
+        payload.put("id", 1);
+        return payload;
+    }
+
+    @Test
+    public void testMapTree() throws FieldAccessor.AccessFieldException {
+        var payload = payload();
+        Assertions.assertEquals(1, accessor.access(payload, "id").value());
+        Assertions.assertEquals("SKU-0", accessor.access(payload, "order.items[0].sku").value());
+        Assertions.assertEquals("SKU-1", accessor.access(payload, "order.items[1].sku").value());
+        Assertions.assertEquals("t0", accessor.access(payload, "order.tags[0]").value());
+        Assertions.assertEquals("v", accessor.access(payload, "order.attributes.k").value());
+        Assertions.assertNull(accessor.access(payload, "order.items[2].sku").value());
+        Assertions.assertNull(accessor.access(payload, "order.missing.sku").value());
+    }
+
+    private record Item(String sku) {
+    }
+
+    @Test
+    public void testMapTree_withPojo() throws FieldAccessor.AccessFieldException {
+        var payload = Map.of("items", List.of(new Item("SKU-0")));
+        Assertions.assertEquals("SKU-0", accessor.access(payload, "items[0].sku").value());
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(payload, "items[0].name"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+    }
+
+    @Or(fields = {"order.items[0].sku", "order.items[1].sku"}, accessor = MapFieldAccessor.class)
+    private record Request(Map<String, Object> order) {
+    }
+
+    @Test
+    public void testValidation() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        @SuppressWarnings("unchecked")
+        var order = (Map<String, Object>) payload().get("order");
+        Assertions.assertTrue(validator.validate(new Request(order)).isEmpty());
+        Assertions.assertEquals(1, validator.validate(new Request(Map.of("items", List.of()))).size());
+    }
+}
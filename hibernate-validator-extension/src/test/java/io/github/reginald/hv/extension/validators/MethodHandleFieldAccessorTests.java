@@ -0,0 +1,58 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+public class MethodHandleFieldAccessorTests extends PojoFieldAccessorTests {
+
+    @Override
+    protected FieldAccessor createAccessor() {
+        return new MethodHandleFieldAccessor();
+    }
+
+    private record PrimitiveRecord(int n, long l, boolean b) {
+    }
+
+    @Test
+    public void testPrimitiveRecordComponent() throws FieldAccessor.AccessFieldException {
+        var record = new PrimitiveRecord(1, 2L, true);
+        Assertions.assertEquals(1, accessor.access(record, "n").value());
+        Assertions.assertEquals(2L, accessor.access(record, "l").value());
+        Assertions.assertEquals(true, accessor.access(record, "b").value());
+    }
+
+    @SuppressWarnings("unused")
+    public static class ThrowingPojo {
+
+        private String a;
+
+        public String getA() {
+            throw new IllegalStateException("Not ready.");
+        }
+    }
+
+    @Test
+    public void testThrowingGetter() {
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(new ThrowingPojo(), "a"));
+        Assertions.assertInstanceOf(InvocationTargetException.class, e.getCause());
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+    }
+
+    @SuppressWarnings("unused")
+    public static class ChildLoadedPojo {
+
+        private String a = "x";
+
+        public String getA() {
+            return a;
+        }
+    }
+
+    @Test
+    public void testPojoOfChildLoader() throws Exception {
+        var pojo = defineInChildLoader(ChildLoadedPojo.class).getDeclaredConstructor().newInstance();
+        Assertions.assertEquals("x", accessor.accessValueOrFailure(pojo, FieldPath.compile("a")));
+    }
+}
@@ -116,6 +116,14 @@ public class OrValidatorTests extends BasicValidatorTests {
         Assertions.assertTrue(validations.contains("At least one of the fields [a, n.b] required."));
     }
 
+    @Test
+    public void testNestedPojo_nestedObjectNull() {
+        var pojo = new NestedPojo(null, null);
+        var validations = validator.validate(pojo).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(1, validations.size());
+        Assertions.assertTrue(validations.contains("At least one of the fields [a, n.b] required."));
+    }
+
     @Or(fields = {"a", "map.b"})
     private record NestedMapPojo(
             String a,
@@ -189,4 +197,41 @@ public class OrValidatorTests extends BasicValidatorTests {
         Assertions.assertTrue(validations.contains("At least one of the fields [a, b] required."));
         Assertions.assertTrue(validations.contains("At least one of the fields [c, d] required."));
     }
+
+    @Or(fields = {"a", "b"})
+    private record ShortCircuitPojo(String a, String b) {
+
+        @Override
+        public String b() {
+            throw new IllegalStateException("Should NOT be accessed.");
+        }
+    }
+
+    @Test
+    public void testShortCircuitPojo_stopsAtFirstValidField() {
+        // Reading "b" would be reported as the violation of its throwing accessor.
+        var pojo = new ShortCircuitPojo("a", "b");
+        var validations = validator.validate(pojo);
+        Assertions.assertTrue(validations.isEmpty());
+
+        var violations = validator.validate(new ShortCircuitPojo("", "b")).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertTrue(violations.stream().anyMatch(v -> v.startsWith("Access field [b] with error")), violations.toString());
+    }
+
+    @Or(fields = {"email", "phnoe"})
+    public record MisspelledPojo(String email, String phone) {
+    }
+
+    @Test
+    public void testMisspelledPojo_reportedAfterDecision() {
+        // The first field decides the result, and the misspelled one is still reported without being read.
+        for (var i = 0; i < 2; i++) {
+            var violations = validator.validate(new MisspelledPojo("email", "phone")).stream().map(ConstraintViolation::getMessage).toList();
+            Assertions.assertTrue(violations.contains("Field [phnoe] doesn't exist."), violations.toString());
+        }
+        var batchValidator = BatchValidator.of(MisspelledPojo.class);
+        Assertions.assertTrue(batchValidator.fused().isFused());
+        Assertions.assertEquals(1, batchValidator.fused().validate(List.of(new MisspelledPojo("email", "phone"))).invalid().cardinality());
+        Assertions.assertEquals(1, batchValidator.validate(List.of(new MisspelledPojo("email", "phone"))).invalid().cardinality());
+    }
 }
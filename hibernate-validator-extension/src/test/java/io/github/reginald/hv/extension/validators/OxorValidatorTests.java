@@ -39,4 +39,25 @@ public class OxorValidatorTests extends BasicValidatorTests {
         Assertions.assertEquals(1, violations.size());
         Assertions.assertTrue(violations.contains("At most one of the fields [a, b, c] required."));
     }
+
+    @Oxor(fields = {"a", "b", "c"})
+    private record ShortCircuitPojo(String a, String b, String c) {
+
+        @Override
+        public String c() {
+            throw new IllegalStateException("Should NOT be accessed.");
+        }
+    }
+
+    @Test
+    public void testShortCircuitPojo_stopsAtSecondValidField() {
+        // Reading "c" would be reported as the violation of its throwing accessor.
+        var pojo = new ShortCircuitPojo("a", "b", "c");
+        var violations = validator.validate(pojo).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(1, violations.size());
+        Assertions.assertTrue(violations.contains("At most one of the fields [a, b, c] required."));
+
+        violations = validator.validate(new ShortCircuitPojo("a", "", "c")).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertTrue(violations.stream().anyMatch(v -> v.startsWith("Access field [c] with error")), violations.toString());
+    }
 }
@@ -0,0 +1,229 @@
+package io.github.reginald.hv.extension.validators;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class PojoFieldAccessorTests {
+
+    protected final FieldAccessor accessor = createAccessor();
+
+    protected FieldAccessor createAccessor() {
+        return new PojoFieldAccessor();
+    }
+
+    private record SimpleRecord(String a, Boolean flag) {
+    }
+
+    @Test
+    public void testRecordComponent() throws FieldAccessor.AccessFieldException {
+        var record = new SimpleRecord("a", true);
+        Assertions.assertEquals("a", accessor.access(record, "a").value());
+        Assertions.assertEquals(true, accessor.access(record, "flag").value());
+    }
+
+    @SuppressWarnings("unused")
+    public static class BasePojo {
+
+        public String a;
+
+        private boolean enabled;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class SubPojo extends BasePojo {
+
+        private String b;
+
+        public String getB() {
+            return b;
+        }
+
+        public void setB(String b) {
+            this.b = b;
+        }
+    }
+
+    @Test
+    public void testSuperClassFields() throws FieldAccessor.AccessFieldException {
+        var pojo = new SubPojo();
+        pojo.a = "a";
+        pojo.setB("b");
+        pojo.setEnabled(true);
+        Assertions.assertEquals("a", accessor.access(pojo, "a").value());
+        Assertions.assertEquals("b", accessor.access(pojo, "b").value());
+        Assertions.assertEquals(true, accessor.access(pojo, "enabled").value());
+    }
+
+    @Test
+    public void testMissingField_reportedOnEveryAccess() {
+        var pojo = new SubPojo();
+        for (var i = 0; i < 2; i++) {
+            var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(pojo, "c"));
+            Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+        }
+    }
+
+    @Test
+    public void testMissingField_returnedAsFailure() {
+        var path = FieldPath.compile("c");
+        var failure = Assertions.assertInstanceOf(FieldAccessor.AccessFailure.class, accessor.accessValueOrFailure(new SubPojo(), path));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, failure.cause());
+        Assertions.assertEquals(0, failure.cause().getStackTrace().length);
+        Assertions.assertSame(failure, accessor.accessValueOrFailure(new SubPojo(), path));
+        Assertions.assertEquals("a", accessor.accessValueOrFailure(new SimpleRecord("a", true), FieldPath.compile("a")));
+    }
+
+    @Test
+    public void testAccessValueOverridden_delegatedByFailureResult() {
+        var overriding = new PojoFieldAccessor() {
+
+            @Override
+            public Object accessValue(Object pojo, FieldPath path) {
+                return "overridden";
+            }
+        };
+        Assertions.assertEquals("overridden", overriding.accessValueOrFailure(new SubPojo(), FieldPath.compile("c")));
+    }
+
+    /**
+     * The extension point before the compiled paths, e.g. resolving the aliases of the fields.
+     */
+    public static class LegacyFieldAccessor extends PojoFieldAccessor {
+
+        @Override
+        public FieldTuple access(Object pojo, String field) throws AccessFieldException {
+            if (field.equals("alias")) {
+                throw new AccessFieldException(new NoSuchFieldException(field));
+            }
+            return super.access(pojo, field.equals("first") ? "a" : field);
+        }
+    }
+
+    @Or(fields = {"first", "b"}, accessor = LegacyFieldAccessor.class)
+    private record LegacyPojo(String a, String b) {
+    }
+
+    @Test
+    public void testAccessOverridden_delegatedByFailureResult() {
+        var legacy = new LegacyFieldAccessor();
+        Assertions.assertEquals("a", legacy.accessValueOrFailure(new SimpleRecord("a", true), FieldPath.compile("first")));
+        var failure = legacy.accessValueOrFailure(new SimpleRecord("a", true), FieldPath.compile("alias"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, Assertions.assertInstanceOf(FieldAccessor.AccessFailure.class, failure).cause());
+
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        Assertions.assertTrue(validator.validate(new LegacyPojo("a", null)).isEmpty());
+        Assertions.assertFalse(validator.validate(new LegacyPojo(null, null)).isEmpty());
+
+        var compiled = new MapFieldAccessor() {
+
+            @Override
+            public FieldTuple access(Object pojo, FieldPath path) {
+                return new FieldTuple(path.path(), "compiled");
+            }
+        };
+        Assertions.assertEquals("compiled", compiled.accessValueOrFailure(Map.of(), FieldPath.compile("c")));
+    }
+
+    private record NestedRecord(SimpleRecord inner) {
+    }
+
+    @Test
+    public void testCompiledPath() throws FieldAccessor.AccessFieldException {
+        var path = FieldPath.compile("inner.a");
+        Assertions.assertEquals("a", accessor.access(new NestedRecord(new SimpleRecord("a", false)), path).value());
+        Assertions.assertEquals("inner.a", accessor.access(new NestedRecord(new SimpleRecord("a", false)), path).field());
+    }
+
+    @Test
+    public void testCompiledPath_intermediateNull() throws FieldAccessor.AccessFieldException {
+        Assertions.assertNull(accessor.access(new NestedRecord(null), FieldPath.compile("inner.a")).value());
+    }
+
+    @Test
+    public void testCompiledPath_emptySegment() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("inner..a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FieldPath.compile(""));
+    }
+
+    @Test
+    public void testCompiledPath_indices() {
+        var path = FieldPath.compile("items[3][0].sku");
+        Assertions.assertEquals(4, path.length());
+        Assertions.assertEquals("items", path.segment(0));
+        Assertions.assertFalse(path.isIndex(0));
+        Assertions.assertEquals("[3]", path.segment(1));
+        Assertions.assertEquals(3, path.index(1));
+        Assertions.assertEquals(0, path.index(2));
+        Assertions.assertEquals(-1, path.index(3));
+        Assertions.assertTrue(FieldPath.compile("[1].a").isIndex(0));
+        Assertions.assertEquals("items", path.prefix(1));
+        Assertions.assertEquals("items[3][0]", path.prefix(3));
+        Assertions.assertEquals("items[3][0].sku", path.prefix(4));
+        Assertions.assertEquals("[0]", path.step(2).path());
+        Assertions.assertEquals(0, path.step(2).index(0));
+        Assertions.assertEquals("sku", path.step(3).path());
+        var single = FieldPath.compile("a");
+        Assertions.assertSame(single, single.step(0));
+        for (var malformed : new String[]{"items[", "items[]", "items[-1]", "items[a]", "items[1]x", "a.[1]", "items[1]]"}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> FieldPath.compile(malformed), malformed);
+        }
+    }
+
+    private record ListRecord(List<SimpleRecord> list, SimpleRecord[] array, int[] numbers) {
+    }
+
+    @Test
+    public void testIndexedPath() throws FieldAccessor.AccessFieldException {
+        var pojo = new ListRecord(List.of(new SimpleRecord("a0", true), new SimpleRecord("a1", false)),
+                new SimpleRecord[]{new SimpleRecord("b0", true)}, new int[]{7});
+        Assertions.assertEquals("a1", accessor.access(pojo, "list[1].a").value());
+        Assertions.assertEquals("b0", accessor.access(pojo, "array[0].a").value());
+        Assertions.assertEquals(7, accessor.access(pojo, "numbers[0]").value());
+        Assertions.assertNull(accessor.access(pojo, "list[2].a").value());
+        Assertions.assertEquals(true, accessor.access(pojo.list(), "[0].flag").value());
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(pojo, "list[0].a[0]"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+        var failure = accessor.accessValueOrFailure(pojo, FieldPath.compile("list[0].a[0]"));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, Assertions.assertInstanceOf(FieldAccessor.AccessFailure.class, failure).cause());
+    }
+
+    /**
+     * Defines the class again by a child class loader, e.g. the one of a webapp, which this library couldn't see.
+     */
+    protected static Class<?> defineInChildLoader(Class<?> type) throws IOException, ClassNotFoundException {
+        var name = type.getName();
+        byte[] bytes;
+        try (var in = type.getResourceAsStream("/" + name.replace('.', '/') + ".class")) {
+            bytes = in.readAllBytes();
+        }
+        var loader = new ClassLoader(type.getClassLoader()) {
+
+            @Override
+            protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+                if (!className.equals(name)) {
+                    return super.loadClass(className, resolve);
+                }
+                synchronized (getClassLoadingLock(className)) {
+                    var loaded = findLoadedClass(className);
+                    return loaded != null ? loaded : defineClass(className, bytes, 0, bytes.length);
+                }
+            }
+        };
+        var defined = loader.loadClass(name);
+        Assertions.assertNotSame(type, defined);
+        return defined;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+
+public class RecordFieldAccessorTests extends PojoFieldAccessorTests {
+
+    @Override
+    protected FieldAccessor createAccessor() {
+        return new RecordFieldAccessor();
+    }
+
+    private record Leaf(int n, boolean b) {
+    }
+
+    private record Branch(Leaf leaf, List<Leaf> leaves, Map<String, Leaf> byName) {
+    }
+
+    private record Root(String id, Branch branch) {
+
+        @SuppressWarnings("unused")
+        private static final String CONSTANT = "constant";
+    }
+
+    @Test
+    public void testNestedRecords() throws FieldAccessor.AccessFieldException {
+        var root = new Root("id", new Branch(new Leaf(1, true), List.of(new Leaf(2, false)), Map.of("x", new Leaf(3, true))));
+        Assertions.assertEquals("id", accessor.accessValue(root, FieldPath.compile("id")));
+        Assertions.assertEquals(1, accessor.accessValue(root, FieldPath.compile("branch.leaf.n")));
+        Assertions.assertEquals(true, accessor.accessValue(root, FieldPath.compile("branch.leaf.b")));
+        Assertions.assertEquals(2, accessor.accessValue(root, FieldPath.compile("branch.leaves[0].n")));
+        Assertions.assertEquals(3, accessor.accessValue(root, FieldPath.compile("branch.byName.x.n")));
+        Assertions.assertNull(accessor.accessValue(new Root("id", null), FieldPath.compile("branch.leaf.n")));
+    }
+
+    @Test
+    public void testNonComponent() {
+        var root = new Root("id", null);
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.accessValue(root, FieldPath.compile("missing")));
+        Assertions.assertInstanceOf(NoSuchFieldException.class, e.getCause());
+        // The static field is neither a component nor an accessible field.
+        Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.accessValue(root, FieldPath.compile("CONSTANT")));
+    }
+
+    private record ThrowingRecord(String a) {
+
+        @Override
+        public String a() {
+            throw new IllegalStateException("Not ready.");
+        }
+    }
+
+    @Test
+    public void testThrowingAccessor() {
+        var e = Assertions.assertThrows(FieldAccessor.AccessFieldException.class, () -> accessor.access(new ThrowingRecord("a"), "a"));
+        Assertions.assertInstanceOf(InvocationTargetException.class, e.getCause());
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+    }
+
+    public record ChildLoadedRecord(String a) {
+    }
+
+    @Test
+    public void testRecordOfChildLoader() throws Exception {
+        var record = defineInChildLoader(ChildLoadedRecord.class).getDeclaredConstructor(String.class).newInstance("y");
+        Assertions.assertEquals("y", accessor.accessValueOrFailure(record, FieldPath.compile("a")));
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class StreamingValidatorTests extends BasicValidatorTests {
+
+    @Or(fields = {"a", "b"})
+    public record Row(String a, String b, @IntEnumValue({1, 2}) Integer type) {
+    }
+
+    private static Row row(int i) {
+        return new Row(i % 3 == 0 ? null : "a", null, i % 5 == 0 ? 3 : 1);
+    }
+
+    /**
+     * Runs the first task submitted in place, and holds the others until cancelled.
+     */
+    private static final class HoldingExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> held = new ArrayList<>();
+
+        private boolean ran;
+
+        @Override
+        public void execute(Runnable command) {
+            if (!ran) {
+                ran = true;
+                command.run();
+            } else {
+                held.add(command);
+            }
+        }
+
+        private boolean allHeldCancelled() {
+            return !held.isEmpty() && held.stream().allMatch(task -> ((Future<?>) task).isCancelled());
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return held;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    private static List<Long> expectedInvalidIndices(int count) {
+        return LongStream.range(0, count).filter(i -> i % 3 == 0 || i % 5 == 0).boxed().toList();
+    }
+
+    @Test
+    public void testValidate_iterator() {
+        var indices = new ArrayList<Long>();
+        StreamingValidator.<Row>of(validator).validate(IntStream.range(0, 100).mapToObj(StreamingValidatorTests::row).iterator())
+                .forEachRemaining(invalid -> {
+                    Assertions.assertFalse(invalid.violations().isEmpty());
+                    Assertions.assertEquals(row((int) invalid.index()), invalid.element());
+                    indices.add(invalid.index());
+                });
+        Assertions.assertEquals(expectedInvalidIndices(100), indices);
+    }
+
+    @Test
+    public void testValidate_parallelStream() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var closed = new AtomicBoolean();
+            var source = IntStream.range(0, 10_000).mapToObj(StreamingValidatorTests::row).onClose(() -> closed.set(true));
+            List<Long> indices;
+            try (var invalid = StreamingValidator.<Row>of(validator).parallel(8, executor).validate(source)) {
+                indices = invalid.map(StreamingValidator.InvalidElement::index).toList();
+            }
+            Assertions.assertEquals(expectedInvalidIndices(10_000), indices);
+            Assertions.assertTrue(closed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidate_boundedReadAhead() {
+        var read = new AtomicInteger();
+        var source = Stream.generate(() -> row(read.getAndIncrement()));
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = StreamingValidator.<Row>of(validator).parallel(4, executor).validate(source).findFirst();
+            Assertions.assertEquals(0, first.orElseThrow().index());
+            Assertions.assertTrue(read.get() <= 4, "Read " + read.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidate_closeCancelsReadAhead() {
+        var executor = new HoldingExecutor();
+        var source = IntStream.range(0, 100).mapToObj(StreamingValidatorTests::row);
+        try (var invalid = StreamingValidator.<Row>of(validator).parallel(4, executor).validate(source)) {
+            Assertions.assertEquals(0, invalid.iterator().next().index());
+        }
+        Assertions.assertTrue(executor.allHeldCancelled());
+    }
+
+    @Test
+    public void testValidate_failureCancelsReadAhead() {
+        var executor = new HoldingExecutor();
+        var source = Stream.concat(Stream.of((Row) null), IntStream.range(1, 100).mapToObj(StreamingValidatorTests::row));
+        var invalid = StreamingValidator.<Row>of(validator).parallel(4, executor).validate(source.iterator());
+        Assertions.assertThrows(IllegalArgumentException.class, invalid::hasNext);
+        Assertions.assertTrue(executor.allHeldCancelled());
+    }
+
+    @Test
+    public void testValidate_publisher() throws Exception {
+        var indices = new ArrayList<Long>();
+        var completed = new CompletableFuture<Void>();
+        try (var source = new SubmissionPublisher<Row>()) {
+            StreamingValidator.<Row>of(validator).bufferSize(4).validate(source).subscribe(new Flow.Subscriber<>() {
+
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(StreamingValidator.InvalidElement<Row> item) {
+                    indices.add(item.index());
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    completed.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.complete(null);
+                }
+            });
+            for (var i = 0; i < 1000; i++) {
+                source.submit(row(i));
+            }
+        }
+        completed.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(expectedInvalidIndices(1000), indices);
+    }
+
+    @Test
+    public void testValidate_publisherWithoutDemand() throws Exception {
+        var received = new AtomicInteger();
+        var subscribed = new CompletableFuture<Flow.Subscription>();
+        var source = new SubmissionPublisher<Row>(Runnable::run, 64);
+        StreamingValidator.<Row>of(validator).bufferSize(4).validate(source).subscribe(new Flow.Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscribed.complete(subscription);
+            }
+
+            @Override
+            public void onNext(StreamingValidator.InvalidElement<Row> item) {
+                received.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        // The valid rows keep flowing, while the invalid ones are held up to the buffer size.
+        for (var i = 0; i < 20; i++) {
+            source.offer(row(i), null);
+        }
+        Assertions.assertEquals(0, received.get());
+        Assertions.assertTrue(source.estimateMaximumLag() > 0);
+        subscribed.get().request(Long.MAX_VALUE);
+        Assertions.assertTrue(received.get() >= 4);
+        source.close();
+    }
+}
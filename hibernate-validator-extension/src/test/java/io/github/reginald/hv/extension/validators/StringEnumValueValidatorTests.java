@@ -0,0 +1,90 @@
+package io.github.reginald.hv.extension.validators;
+
+import io.github.reginald.hv.extension.validators.internal.StringMatcher;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+public class StringEnumValueValidatorTests extends BasicValidatorTests {
+
+    @SuppressWarnings({"FieldCanBeLocal", "unused"})
+    private static final class Pojo {
+
+        @StringEnumValue({"CN", "US", "JP"})
+        private final String region;
+
+        @StringEnumValue(value = {"usd", "eur"}, ignoreCase = true, trim = true, allowEmpty = true)
+        private final String currency;
+
+        private Pojo(String region, String currency) {
+            this.region = region;
+            this.currency = currency;
+        }
+    }
+
+    @Test
+    public void testPojo_valid() {
+        Assertions.assertTrue(validator.validate(new Pojo("US", " EUR ")).isEmpty());
+        Assertions.assertTrue(validator.validate(new Pojo("JP", null)).isEmpty());
+    }
+
+    @Test
+    public void testPojo_invalid() {
+        var violations = validator.validate(new Pojo("us", "cny")).stream().map(ConstraintViolation::getMessage).toList();
+        Assertions.assertEquals(2, violations.size());
+        Assertions.assertTrue(violations.contains("Value us not valid. Should be one of [CN, US, JP]"));
+        Assertions.assertTrue(violations.contains("Value cny not valid. Should be one of [usd, eur]"));
+    }
+
+    @Test
+    public void testMatcher_exact() {
+        for (var size : new int[]{3, 5000}) {
+            var matcher = StringMatcher.of(codes(size), false, false);
+            Assertions.assertTrue(matcher.matches("C0"));
+            Assertions.assertTrue(matcher.matches("C" + (size - 1)));
+            Assertions.assertFalse(matcher.matches("c0"));
+            Assertions.assertFalse(matcher.matches(" C0"));
+            Assertions.assertFalse(matcher.matches("C" + size));
+            Assertions.assertFalse(matcher.matches(""));
+        }
+    }
+
+    @Test
+    public void testMatcher_ignoreCase() {
+        for (var size : new int[]{3, 5000}) {
+            var matcher = StringMatcher.of(codes(size), true, false);
+            Assertions.assertTrue(matcher.matches("c0"));
+            Assertions.assertTrue(matcher.matches("C" + (size - 1)));
+            Assertions.assertFalse(matcher.matches(" c0"));
+            Assertions.assertFalse(matcher.matches("c" + size));
+        }
+        var matcher = StringMatcher.of(IntStream.range(0, 100).mapToObj(i -> "Straße" + i).toArray(String[]::new), true, false);
+        Assertions.assertTrue(matcher.matches("straße0"));
+        Assertions.assertTrue(matcher.matches("STRAßE99"));
+        Assertions.assertFalse(matcher.matches("STRASSE0"));
+        // The Kelvin sign equals to 'k' ignoring case.
+        matcher = StringMatcher.of(IntStream.range(0, 100).mapToObj(i -> "k" + i).toArray(String[]::new), true, false);
+        Assertions.assertEquals("k1".equalsIgnoreCase("\u212A1"), matcher.matches("\u212A1"));
+        Assertions.assertTrue(matcher.matches("K1"));
+    }
+
+    @Test
+    public void testMatcher_trim() {
+        for (var size : new int[]{3, 5000}) {
+            var matcher = StringMatcher.of(codes(size), false, true);
+            Assertions.assertTrue(matcher.matches("C0"));
+            Assertions.assertTrue(matcher.matches("\t C0 \n"));
+            Assertions.assertFalse(matcher.matches(" c0 "));
+            Assertions.assertFalse(matcher.matches("C 0"));
+        }
+        var matcher = StringMatcher.of(new String[]{" a ", ""}, true, true);
+        Assertions.assertTrue(matcher.matches("A"));
+        Assertions.assertTrue(matcher.matches("   "));
+    }
+
+    private static String[] codes(int size) {
+        return IntStream.range(0, size).mapToObj(i -> "C" + i).toArray(String[]::new);
+    }
+}
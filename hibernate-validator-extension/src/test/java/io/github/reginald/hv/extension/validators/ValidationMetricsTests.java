@@ -0,0 +1,89 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+
+public class ValidationMetricsTests extends BasicValidatorTests {
+
+    private static final ValidationMetrics metrics = new ValidationMetrics();
+
+    @BeforeAll
+    public static void registerMetrics() {
+        ValidationListener.register(metrics);
+    }
+
+    @AfterAll
+    public static void unregisterMetrics() {
+        ValidationListener.unregister(metrics);
+    }
+
+    @Or(fields = {"a", "b", "c"})
+    private record OrPojo(String a, String b) {
+    }
+
+    @SuppressWarnings({"FieldCanBeLocal", "unused"})
+    private static final class EnumPojo {
+
+        @IntEnumValue({1, 2})
+        private final Integer value;
+
+        private EnumPojo(Integer value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    public void testCrossingFieldsValidator() {
+        validator.validate(new OrPojo("a", null));
+        validator.validate(new OrPojo(null, ""));
+
+        var stats = metrics.stats(Or.class, OrPojo.class);
+        Assertions.assertEquals(0, stats.passed());
+        Assertions.assertEquals(2, stats.failed());
+        Assertions.assertEquals(2, stats.latency().count());
+        // The inaccessible "c" is resolved without being read once "a" is valid.
+        Assertions.assertEquals(2, stats.accessFailures(NoSuchFieldException.class));
+        Assertions.assertEquals(Map.of(NoSuchFieldException.class, 2L), stats.accessFailures());
+        Assertions.assertEquals(3, stats.verifierLatency().count());
+    }
+
+    @Test
+    public void testEnumValueValidator() {
+        validator.validate(new EnumPojo(1));
+        validator.validate(new EnumPojo(3));
+        validator.validate(new EnumPojo(null));
+
+        var stats = metrics.stats(IntEnumValue.class, Integer.class);
+        Assertions.assertEquals(1, stats.passed());
+        Assertions.assertEquals(1, stats.failed());
+        Assertions.assertEquals(1, metrics.stats(IntEnumValue.class, null).failed());
+
+        var keys = new HashSet<ValidationMetrics.Key>();
+        metrics.forEach((key, s) -> keys.add(key));
+        Assertions.assertTrue(keys.contains(new ValidationMetrics.Key(IntEnumValue.class, Void.class)));
+    }
+
+    @Or(fields = {"a", "b"})
+    private record LateRegisteredPojo(String a, String b) {
+    }
+
+    @Test
+    public void testListenerRegisteredAfterValidatorCreated() {
+        validator.validate(new LateRegisteredPojo("a", null));
+        var late = new ValidationMetrics();
+        ValidationListener.register(late);
+        try {
+            validator.validate(new LateRegisteredPojo("a", null));
+        } finally {
+            ValidationListener.unregister(late);
+        }
+        validator.validate(new LateRegisteredPojo("a", null));
+        Assertions.assertEquals(1, late.stats(Or.class, LateRegisteredPojo.class).passed());
+        Assertions.assertEquals(3, metrics.stats(Or.class, LateRegisteredPojo.class).passed());
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ValidationScopeTests extends BasicValidatorTests {
+
+    @SuppressWarnings("unused")
+    public static class Inner {
+
+        private final Leaf leaf;
+
+        private int leafReads;
+
+        public Inner(Leaf leaf) {
+            this.leaf = leaf;
+        }
+
+        public Leaf getLeaf() {
+            leafReads++;
+            return leaf;
+        }
+    }
+
+    public record Leaf(String c, String d) {
+    }
+
+    @Or(fields = {"a", "b"})
+    @Or(fields = {"b", "c"})
+    @Xor(fields = {"b", "inner.leaf.c"})
+    @And(fields = {"inner.leaf.c", "inner.leaf.d"})
+    @SuppressWarnings("unused")
+    public static class Pojo {
+
+        private final String a;
+
+        private final String b;
+
+        private final Inner inner;
+
+        private String c;
+
+        private int bReads;
+
+        private int innerReads;
+
+        public Pojo(String a, String b, Inner inner) {
+            this.a = a;
+            this.b = b;
+            this.inner = inner;
+        }
+
+        public String getA() {
+            return a;
+        }
+
+        public String getB() {
+            bReads++;
+            return b;
+        }
+
+        public String getC() {
+            return c;
+        }
+
+        public Inner getInner() {
+            innerReads++;
+            return inner;
+        }
+    }
+
+    @Test
+    public void testWithoutScope() {
+        var pojo = new Pojo(null, "b", new Inner(new Leaf(null, "d")));
+        var violations = validator.validate(pojo);
+        Assertions.assertEquals(1, violations.size());
+        Assertions.assertEquals(3, pojo.bReads);
+        Assertions.assertEquals(3, pojo.innerReads);
+    }
+
+    @Test
+    public void testScope() {
+        var pojo = new Pojo(null, "b", new Inner(new Leaf(null, "d")));
+        try (var ignored = ValidationScope.open()) {
+            var violations = validator.validate(pojo);
+            Assertions.assertEquals(1, violations.size());
+        }
+        Assertions.assertEquals(1, pojo.bReads);
+        Assertions.assertEquals(1, pojo.innerReads);
+        Assertions.assertEquals(1, pojo.inner.leafReads);
+    }
+
+    @Test
+    public void testScope_discardedWhenClosed() {
+        var pojo = new Pojo(null, "b", null);
+        try (var outer = ValidationScope.open()) {
+            try (var inner = ValidationScope.open()) {
+                validator.validate(pojo);
+            }
+            // Still within the outer scope.
+            validator.validate(pojo);
+            Assertions.assertEquals(1, pojo.bReads);
+            outer.close();
+            outer.close();
+            validator.validate(pojo);
+            Assertions.assertEquals(4, pojo.bReads);
+        }
+    }
+
+    @Test
+    public void testScope_sameResults() {
+        for (var a : new String[]{null, "a"}) {
+            for (var b : new String[]{null, "b"}) {
+                for (var c : new String[]{null, "c"}) {
+                    for (var d : new String[]{null, "d"}) {
+                        var expected = validator.validate(new Pojo(a, b, new Inner(new Leaf(c, d)))).size();
+                        try (var ignored = ValidationScope.open()) {
+                            Assertions.assertEquals(expected, validator.validate(new Pojo(a, b, new Inner(new Leaf(c, d)))).size());
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
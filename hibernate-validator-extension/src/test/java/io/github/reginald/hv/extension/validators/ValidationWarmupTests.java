@@ -0,0 +1,117 @@
+package io.github.reginald.hv.extension.validators;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ValidationWarmupTests extends BasicValidatorTests {
+
+    @Or(fields = {"a", "b"})
+    @Xor(fields = {"a", "inner.c"})
+    public record Request(String a, String b, Inner inner, @IntEnumValue({1, 2, 3}) int type,
+                          List<@StringEnumValue({"x", "y"}) String> tags) {
+
+        public record Inner(String c) {
+        }
+    }
+
+    public static class Plain {
+
+        @LongEnumValue({1L, 2L})
+        public Long code;
+    }
+
+    @And(fields = {"a", "missing"})
+    public record Broken(String a) {
+    }
+
+    public static class Unconstrained {
+    }
+
+    @Compare(left = "start", operator = Compare.Operator.LE, right = "end")
+    public record Range(int start, int end) {
+    }
+
+    public static class ThrowingGetter {
+
+        @IntEnumValue({1, 2})
+        public int getType() {
+            throw new IllegalStateException("Broken getter.");
+        }
+    }
+
+    @Test
+    public void testClasses() {
+        var report = ValidationWarmup.of(validator)
+                .classes(Request.class, Plain.class, Unconstrained.class)
+                .iterations(100)
+                .run();
+        Assertions.assertEquals(List.of(Request.class, Plain.class), report.types());
+        Assertions.assertEquals(5, report.constraints());
+        // 2 crossing-field constraints, 3 enum-like constraints, and the validator on both instances.
+        Assertions.assertEquals(700, report.validations());
+        Assertions.assertTrue(report.errors().isEmpty(), report.errors().toString());
+        Assertions.assertFalse(report.elapsed().isNegative());
+    }
+
+    @Test
+    public void testWithoutIterations() {
+        var report = ValidationWarmup.of().classes(Request.class, Broken.class).run();
+        Assertions.assertEquals(0, report.validations());
+        Assertions.assertEquals(List.of(Request.class, Broken.class), report.types());
+        Assertions.assertEquals(1, report.errors().size());
+        Assertions.assertTrue(report.errors().get(0).endsWith("Field [missing] doesn't exist."), report.errors().get(0));
+    }
+
+    @Test
+    public void testThrowingGetter() {
+        var report = ValidationWarmup.of(validator)
+                .classes(ThrowingGetter.class, Plain.class)
+                .iterations(100)
+                .run();
+        Assertions.assertEquals(List.of(ThrowingGetter.class, Plain.class), report.types());
+        Assertions.assertEquals(1, report.errors().size());
+        Assertions.assertTrue(report.errors().get(0).startsWith(ThrowingGetter.class.getName() + ": Warmup failed by "), report.errors().get(0));
+        // The enum-like constraint of the broken class, and the enum-like constraint and the validator on the next one.
+        Assertions.assertEquals(300, report.validations());
+    }
+
+    @Test
+    public void testCompare() {
+        var report = ValidationWarmup.of().classes(Range.class).iterations(100).run();
+        Assertions.assertEquals(List.of(Range.class), report.types());
+        Assertions.assertEquals(1, report.constraints());
+        Assertions.assertEquals(100, report.validations());
+    }
+
+    @Test
+    public void testListenersNotNotified() {
+        var metrics = new ValidationMetrics();
+        ValidationListener.register(metrics);
+        try {
+            var report = ValidationWarmup.of(validator).classes(Request.class, Range.class).iterations(100).run();
+            Assertions.assertTrue(report.validations() > 0);
+            Assertions.assertEquals(0, metrics.stats(Or.class, Request.class).latency().count());
+            Assertions.assertEquals(0, metrics.stats(Compare.class, Range.class).latency().count());
+
+            validator.validate(new Range(1, 2));
+            Assertions.assertEquals(1, metrics.stats(Compare.class, Range.class).passed());
+        } finally {
+            ValidationListener.unregister(metrics);
+        }
+    }
+
+    @Test
+    public void testPackages() {
+        var report = ValidationWarmup.of().packages(getClass().getPackageName()).run();
+        Assertions.assertTrue(report.types().contains(Request.class), report.types().toString());
+        Assertions.assertTrue(report.types().contains(Broken.class), report.types().toString());
+        Assertions.assertFalse(report.types().contains(Unconstrained.class));
+    }
+
+    @Test
+    public void testNegativeIterations() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ValidationWarmup.of().iterations(-1));
+    }
+}
@@ -1,5 +0,0 @@
-module hibernate.validator.extension {
-    requires transitive jakarta.validation;
-
-    exports io.github.reginald.hv.extension.validators;
-}
\ No newline at end of file